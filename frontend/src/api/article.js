@@ -2,8 +2,9 @@ import api from './index'
 
 export const articleApi = {
   // 前台
-  getPublished: (categoryId) => api.get('/public/articles', { params: { categoryId } }),
+  getPublished: (categoryId, cursor) => api.get('/public/articles', { params: { categoryId, cursor } }),
   getById: (id) => api.get(`/public/articles/${id}`),
+  getTrending: (categoryId, size) => api.get('/public/articles/trending', { params: { categoryId, size } }),
 
   // 后台
   adminGetAll: () => api.get('/admin/articles'),
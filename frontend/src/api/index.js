@@ -54,7 +54,7 @@ api.interceptors.response.use(
 
 export const publicApi = {
   getCategoryTree: () => api.get('/public/categories/tree'),
-  getPublishedArticles: () => api.get('/public/articles'),
+  getPublishedArticles: (params) => api.get('/public/articles', { params }),
   getCategories: () => api.get('/public/categories')
 }
 
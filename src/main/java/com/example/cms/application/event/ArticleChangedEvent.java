@@ -0,0 +1,31 @@
+package com.example.cms.application.event;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 文章写操作事件，由 ArticleService 在事务内发布，监听方在事务提交后处理
+ */
+@Value
+public class ArticleChangedEvent {
+    List<Long> articleIds;
+    ChangeType changeType;
+
+    public static ArticleChangedEvent of(Long articleId, ChangeType changeType) {
+        return new ArticleChangedEvent(List.of(articleId), changeType);
+    }
+
+    public static ArticleChangedEvent of(List<Long> articleIds, ChangeType changeType) {
+        return new ArticleChangedEvent(List.copyOf(articleIds), changeType);
+    }
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        PUBLISHED,
+        UNPUBLISHED,
+        DELETED,
+        CATEGORY_CHANGED
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.cms.application.event;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 分类写操作事件，由 CategoryService 在事务内发布，监听方在事务提交后处理
+ */
+@Value
+public class CategoryChangedEvent {
+    List<Long> categoryIds;
+    ChangeType changeType;
+
+    public static CategoryChangedEvent of(Long categoryId, ChangeType changeType) {
+        return new CategoryChangedEvent(List.of(categoryId), changeType);
+    }
+
+    public static CategoryChangedEvent of(List<Long> categoryIds, ChangeType changeType) {
+        return new CategoryChangedEvent(List.copyOf(categoryIds), changeType);
+    }
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        /** 调整父分类 */
+        MOVED,
+        /** 同级排序变化 */
+        REORDERED
+    }
+}
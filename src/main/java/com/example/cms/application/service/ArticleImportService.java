@@ -0,0 +1,266 @@
+package com.example.cms.application.service;
+
+import com.example.cms.application.event.ArticleChangedEvent;
+import com.example.cms.application.event.ArticleChangedEvent.ChangeType;
+import com.example.cms.domain.model.article.Article;
+import com.example.cms.domain.model.article.CompressedHtml;
+import com.example.cms.domain.model.article.RenderStatus;
+import com.example.cms.domain.model.article.RenderedContent;
+import com.example.cms.domain.repository.ArticleRepository;
+import com.example.cms.domain.service.MarkdownRenderer;
+import com.example.cms.infrastructure.cache.CategoryNameDirectory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * NDJSON 批量导入：逐行读取请求体，不整体缓存；每 batchSize 行为一批，
+ * 批内并行解析、校验（分类查进程内目录）与渲染，再以 JDBC 批量插入并提交，提交后回调该批每一行的结果
+ * 一批写库失败只影响该批，之前已提交的批次保留
+ */
+@Service
+@Slf4j
+public class ArticleImportService {
+
+    private static final int TITLE_MAX_LENGTH = 200;
+    private static final int KEYWORDS_MAX_LENGTH = 500;
+
+    private final ArticleRepository articleRepository;
+    private final CategoryNameDirectory categoryNameDirectory;
+    private final MarkdownRenderer markdownRenderer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader lineReader;
+    private final int batchSize;
+    private final int parallelism;
+
+    public ArticleImportService(
+            ArticleRepository articleRepository,
+            CategoryNameDirectory categoryNameDirectory,
+            MarkdownRenderer markdownRenderer,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${cms.import.batch-size:500}") int batchSize,
+            @Value("${cms.import.parallelism:0}") int parallelism) {
+        this.articleRepository = articleRepository;
+        this.categoryNameDirectory = categoryNameDirectory;
+        this.markdownRenderer = markdownRenderer;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lineReader = objectMapper.readerFor(ImportLine.class);
+        this.batchSize = Math.max(1, batchSize);
+        // 0 表示按 CPU 核数
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * 导入 NDJSON，每行一篇文章：{"title", "content", "categoryId", "keywords"}，空行忽略
+     */
+    public Summary importNdjson(Reader body, Consumer<List<LineResult>> onBatch) throws IOException {
+        long start = System.currentTimeMillis();
+        long total = 0;
+        long imported = 0;
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            BufferedReader reader = body instanceof BufferedReader buffered ? buffered : new BufferedReader(body, 1 << 16);
+            List<RawLine> batch = new ArrayList<>(batchSize);
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                batch.add(new RawLine(lineNumber, line));
+                total++;
+                if (batch.size() == batchSize) {
+                    imported += importBatch(pool, batch, onBatch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                imported += importBatch(pool, batch, onBatch);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        Summary summary = new Summary(total, imported, total - imported, System.currentTimeMillis() - start);
+        log.info("文章导入完成: 共 {} 行, 成功 {}, 失败 {}, 耗时 {} ms",
+                summary.getTotal(), summary.getImported(), summary.getFailed(), summary.getElapsedMillis());
+        return summary;
+    }
+
+    /**
+     * 导入一批并回调结果，返回成功条数
+     */
+    private int importBatch(ForkJoinPool pool, List<RawLine> batch, Consumer<List<LineResult>> onBatch) {
+        List<Prepared> prepared;
+        try {
+            prepared = pool.submit(() -> batch.parallelStream().map(this::prepare).toList()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("文章导入被中断", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("文章导入失败: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        List<Prepared> valid = prepared.stream().filter(p -> p.error == null).toList();
+        String batchError = null;
+        List<Long> ids = List.of();
+        if (!valid.isEmpty()) {
+            try {
+                ids = transactionTemplate.execute(status -> insert(valid));
+            } catch (DataAccessException e) {
+                // 校验之后分类被删除等情况由约束拒绝，整批回滚
+                log.warn("导入批次写入失败: 第 {}~{} 行", batch.get(0).number, batch.get(batch.size() - 1).number, e);
+                batchError = "批量写入失败: " + e.getMostSpecificCause().getMessage();
+            }
+        }
+
+        List<LineResult> results = new ArrayList<>(prepared.size());
+        int next = 0;
+        for (Prepared p : prepared) {
+            if (p.error != null) {
+                results.add(LineResult.failed(p.lineNumber, p.error));
+            } else if (batchError != null) {
+                results.add(LineResult.failed(p.lineNumber, batchError));
+            } else {
+                results.add(LineResult.imported(p.lineNumber, ids.get(next++)));
+            }
+        }
+        onBatch.accept(results);
+        return next;
+    }
+
+    private List<Long> insert(List<Prepared> valid) {
+        List<Long> ids = articleRepository.insertAll(valid.stream().map(p -> p.article).toList());
+        Map<Long, CompressedHtml> variants = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            variants.put(ids.get(i), valid.get(i).variants);
+        }
+        articleRepository.saveAllHtmlVariants(variants);
+        eventPublisher.publishEvent(ArticleChangedEvent.of(ids, ChangeType.CREATED));
+        return ids;
+    }
+
+    /**
+     * 解析、校验并渲染一行；导入的内容各不相同，不经过渲染缓存
+     */
+    private Prepared prepare(RawLine raw) {
+        ImportLine line;
+        try {
+            line = lineReader.readValue(raw.text);
+        } catch (JsonProcessingException e) {
+            return Prepared.failed(raw.number, "JSON 格式错误: " + e.getOriginalMessage());
+        }
+        if (line.getTitle() == null || line.getTitle().isBlank()) {
+            return Prepared.failed(raw.number, "标题不能为空");
+        }
+        if (line.getTitle().length() > TITLE_MAX_LENGTH) {
+            return Prepared.failed(raw.number, "标题长度不能超过 " + TITLE_MAX_LENGTH);
+        }
+        if (line.getContent() == null) {
+            return Prepared.failed(raw.number, "正文不能为空");
+        }
+        if (line.getKeywords() != null && line.getKeywords().length() > KEYWORDS_MAX_LENGTH) {
+            return Prepared.failed(raw.number, "关键词长度不能超过 " + KEYWORDS_MAX_LENGTH);
+        }
+        if (!categoryNameDirectory.contains(line.getCategoryId())) {
+            return Prepared.failed(raw.number, "分类不存在: " + line.getCategoryId());
+        }
+        try {
+            RenderedContent renderedContent = markdownRenderer.renderUncached(line.getContent());
+            Article article = Article.builder()
+                    .title(line.getTitle())
+                    .content(line.getContent())
+                    .renderedContent(renderedContent)
+                    .renderStatus(RenderStatus.RENDERED)
+                    .categoryId(line.getCategoryId())
+                    .keywords(line.getKeywords())
+                    .build();
+            return new Prepared(raw.number, article, CompressedHtml.compress(renderedContent), null);
+        } catch (RuntimeException e) {
+            log.warn("导入第 {} 行渲染失败", raw.number, e);
+            return Prepared.failed(raw.number, "渲染失败: " + e.getMessage());
+        }
+    }
+
+    @Data
+    public static class ImportLine {
+        private String title;
+        private String content;
+        private Long categoryId;
+        private String keywords;
+    }
+
+    private static final class RawLine {
+        final long number;
+        final String text;
+
+        RawLine(long number, String text) {
+            this.number = number;
+            this.text = text;
+        }
+    }
+
+    private static final class Prepared {
+        final long lineNumber;
+        final Article article;
+        final CompressedHtml variants;
+        final String error;
+
+        Prepared(long lineNumber, Article article, CompressedHtml variants, String error) {
+            this.lineNumber = lineNumber;
+            this.article = article;
+            this.variants = variants;
+            this.error = error;
+        }
+
+        static Prepared failed(long lineNumber, String error) {
+            return new Prepared(lineNumber, null, null, error);
+        }
+    }
+
+    @lombok.Value
+    public static class LineResult {
+        long line;
+        Long articleId;
+        String error;
+
+        static LineResult imported(long line, Long articleId) {
+            return new LineResult(line, articleId, null);
+        }
+
+        static LineResult failed(long line, String error) {
+            return new LineResult(line, null, error);
+        }
+    }
+
+    @lombok.Value
+    public static class Summary {
+        long total;
+        long imported;
+        long failed;
+        long elapsedMillis;
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.cms.application.service;
+
+import com.example.cms.application.event.ArticleChangedEvent;
+import com.example.cms.application.event.ArticleChangedEvent.ChangeType;
+import com.example.cms.domain.model.article.Article;
+import com.example.cms.domain.model.article.ArticleDigest;
+import com.example.cms.domain.model.article.CompressedHtml;
+import com.example.cms.domain.model.article.RenderStatus;
+import com.example.cms.domain.model.article.RenderedContent;
+import com.example.cms.domain.repository.ArticleRepository;
+import com.example.cms.domain.service.MarkdownRenderer;
+import com.example.cms.infrastructure.stats.Latency;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 文章异步渲染：正文达到阈值时保存为 PENDING，事务提交后交给有界线程池渲染，完成后按 renderRevision 写回
+ * 队列满时由提交线程自己渲染（计入 rejected），以此对写入方施加背压，任务不会丢失；
+ * 启动时把遗留的 PENDING 文章重新入队
+ */
+@Component
+@Slf4j
+public class ArticleRenderPipeline {
+
+    private static final int RESUME_BATCH_SIZE = 100;
+
+    private final ArticleRepository articleRepository;
+    private final MarkdownRenderer markdownRenderer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int inlineThreshold;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final Latency waitLatency = new Latency();
+    private final Latency renderLatency = new Latency();
+
+    public ArticleRenderPipeline(
+            ArticleRepository articleRepository,
+            MarkdownRenderer markdownRenderer,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${cms.render.async.enabled:false}") boolean enabled,
+            @Value("${cms.render.async.inline-threshold:16384}") int inlineThreshold,
+            @Value("${cms.render.async.threads:2}") int threads,
+            @Value("${cms.render.async.queue-capacity:256}") int queueCapacity) {
+        this.articleRepository = articleRepository;
+        this.markdownRenderer = markdownRenderer;
+        this.eventPublisher = eventPublisher;
+        // 可能在外层事务的 afterCommit 中执行，必须开启新事务
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.inlineThreshold = inlineThreshold;
+        this.queueCapacity = queueCapacity;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "article-render-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> {
+                    if (pool.isShutdown()) {
+                        // 关闭期间不再渲染，文章保持 PENDING，下次启动时补齐
+                        return;
+                    }
+                    rejected.increment();
+                    runnable.run();
+                });
+    }
+
+    /**
+     * 该正文是否走异步渲染；小文档直接在请求线程渲染，代价低于排队
+     */
+    public boolean isDeferred(String content) {
+        return enabled && content != null && content.length() >= inlineThreshold;
+    }
+
+    /**
+     * 当前事务提交后提交渲染任务，没有事务时立即提交
+     */
+    public void submitAfterCommit(Long articleId, long renderRevision, String content) {
+        Task task = new Task(articleId, renderRevision, content);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(task);
+                }
+            });
+        } else {
+            submit(task);
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(enabled, executor.getMaximumPoolSize(), executor.getActiveCount(),
+                executor.getQueue().size(), queueCapacity,
+                submitted.sum(), completed.sum(), failed.sum(), stale.sum(), rejected.sum(),
+                waitLatency.averageMillis(), waitLatency.maxMillis(),
+                renderLatency.averageMillis(), renderLatency.maxMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePending() {
+        List<Long> ids = articleRepository.findIdsByRenderStatus(RenderStatus.PENDING);
+        if (ids.isEmpty()) {
+            return;
+        }
+        log.info("重新提交 {} 篇待渲染文章", ids.size());
+        for (int from = 0; from < ids.size(); from += RESUME_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + RESUME_BATCH_SIZE, ids.size()));
+            for (Article article : articleRepository.findByIds(batch)) {
+                if (article.getRenderStatus() == RenderStatus.PENDING) {
+                    submit(new Task(article.getId(), article.getRenderRevision(), article.getContent()));
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("渲染线程池未能在 10 秒内结束，剩余 {} 个任务在下次启动时重新渲染", executor.shutdownNow().size());
+        }
+    }
+
+    private void submit(Task task) {
+        submitted.increment();
+        executor.execute(task);
+    }
+
+    private void render(Task task) {
+        long start = System.nanoTime();
+        waitLatency.record(start - task.submittedAt);
+        try {
+            RenderedContent renderedContent = markdownRenderer.render(task.content);
+            CompressedHtml variants = CompressedHtml.compress(renderedContent);
+            Boolean saved = transactionTemplate.execute(status -> {
+                if (!articleRepository.saveRenderResult(task.articleId, task.renderRevision,
+                        renderedContent, ArticleDigest.from(renderedContent))) {
+                    return false;
+                }
+                articleRepository.saveHtmlVariants(task.articleId, variants);
+                eventPublisher.publishEvent(ArticleChangedEvent.of(task.articleId, ChangeType.UPDATED));
+                return true;
+            });
+            if (Boolean.TRUE.equals(saved)) {
+                completed.increment();
+            } else {
+                // 文章已删除或正文又被修改，结果作废
+                stale.increment();
+            }
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("文章渲染失败: id={}, revision={}", task.articleId, task.renderRevision, e);
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        articleRepository.markRenderFailed(task.articleId, task.renderRevision));
+            } catch (RuntimeException ignored) {
+                log.warn("标记渲染失败状态时出错: id={}", task.articleId, ignored);
+            }
+        } finally {
+            renderLatency.record(System.nanoTime() - start);
+        }
+    }
+
+    private final class Task implements Runnable {
+        final Long articleId;
+        final long renderRevision;
+        final String content;
+        final long submittedAt = System.nanoTime();
+
+        Task(Long articleId, long renderRevision, String content) {
+            this.articleId = articleId;
+            this.renderRevision = renderRevision;
+            this.content = content;
+        }
+
+        @Override
+        public void run() {
+            render(this);
+        }
+    }
+
+    @lombok.Value
+    public static class Stats {
+        boolean enabled;
+        int threads;
+        int active;
+        int queueDepth;
+        int queueCapacity;
+        long submitted;
+        long completed;
+        long failed;
+        long stale;
+        long rejected;
+        double waitAvgMillis;
+        double waitMaxMillis;
+        double renderAvgMillis;
+        double renderMaxMillis;
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.cms.application.service;
+
+import com.example.cms.application.event.ArticleChangedEvent;
+import com.example.cms.application.event.ArticleChangedEvent.ChangeType;
+import com.example.cms.domain.model.article.RenderJob;
+import com.example.cms.domain.model.article.RenderJobStatus;
+import com.example.cms.domain.model.article.RenderResult;
+import com.example.cms.domain.model.article.RenderSource;
+import com.example.cms.domain.model.article.RenderStatus;
+import com.example.cms.domain.model.article.RenderedContent;
+import com.example.cms.domain.repository.ArticleRepository;
+import com.example.cms.domain.repository.RenderJobRepository;
+import com.example.cms.domain.service.MarkdownRenderer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 全量重新渲染：修改渲染选项或清理规则后，由管理员触发，重新生成所有文章的 rendered_content
+ * 按 ID 升序分块读取，块内在 ForkJoinPool 上并行渲染，结果以 JDBC 批量写回，并在同一事务内推进检查点；
+ * 重启后从检查点继续。写回按 renderRevision 判断，期间被编辑过的文章保留编辑后的结果
+ */
+@Component
+@Slf4j
+public class ArticleRerenderJob {
+
+    private final ArticleRepository articleRepository;
+    private final RenderJobRepository renderJobRepository;
+    private final MarkdownRenderer markdownRenderer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int parallelism;
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "article-rerender");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** 运行中任务的最新检查点，查询进度时不访问数据库 */
+    private volatile RenderJob current;
+    private volatile boolean stopping;
+
+    public ArticleRerenderJob(
+            ArticleRepository articleRepository,
+            RenderJobRepository renderJobRepository,
+            MarkdownRenderer markdownRenderer,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${cms.render.rerender.chunk-size:100}") int chunkSize,
+            @Value("${cms.render.rerender.parallelism:0}") int parallelism) {
+        this.articleRepository = articleRepository;
+        this.renderJobRepository = renderJobRepository;
+        this.markdownRenderer = markdownRenderer;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+        // 0 表示按 CPU 核数
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    public synchronized RenderJob start() {
+        RenderJob running = current;
+        if (running != null && running.isRunning()) {
+            throw new IllegalArgumentException("已有重新渲染任务在运行: " + running.getId());
+        }
+        RenderJob job = transactionTemplate.execute(status ->
+                renderJobRepository.save(RenderJob.start(articleRepository.count())));
+        launch(job);
+        return job;
+    }
+
+    /**
+     * 最近一次任务的进度
+     */
+    public Optional<RenderJob> latest() {
+        RenderJob job = current;
+        return job != null ? Optional.of(job) : renderJobRepository.findLatest();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void resumeInterrupted() {
+        renderJobRepository.findFirstByStatus(RenderJobStatus.RUNNING).ifPresent(job -> {
+            log.info("继续未完成的重新渲染任务: id={}, 已处理 {}/{}, 检查点 {}",
+                    job.getId(), job.getProcessed(), job.getTotal(), job.getLastArticleId());
+            launch(job);
+        });
+    }
+
+    /**
+     * 在任何 Bean 销毁之前停止：当前块提交（事件监听方仍可用）后退出，任务保持 RUNNING，下次启动时继续
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void shutdown() throws InterruptedException {
+        stopping = true;
+        coordinator.shutdown();
+        if (!coordinator.awaitTermination(30, TimeUnit.SECONDS)) {
+            coordinator.shutdownNow();
+        }
+    }
+
+    private void launch(RenderJob job) {
+        current = job;
+        coordinator.execute(() -> run(job));
+    }
+
+    private void run(RenderJob job) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            while (!stopping) {
+                long chunkStart = System.nanoTime();
+                List<RenderSource> sources = articleRepository.findRenderSourcesAfter(job.getLastArticleId(), chunkSize);
+                if (sources.isEmpty()) {
+                    break;
+                }
+                List<Outcome> outcomes = pool.submit(() -> sources.parallelStream()
+                        .map(this::render)
+                        .toList()).get();
+                commitChunk(job, sources.get(sources.size() - 1).getId(), outcomes, chunkStart);
+            }
+            if (!stopping) {
+                job.complete();
+                current = transactionTemplate.execute(status -> renderJobRepository.save(job));
+                log.info("重新渲染完成: id={}, 共 {} 篇, 更新 {}, 未变化 {}, 跳过 {}, 失败 {}, {} 篇/秒",
+                        job.getId(), job.getProcessed(), job.getUpdated(), job.getUnchanged(), job.getStale(),
+                        job.getFailed(), String.format("%.1f", job.throughput()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RuntimeException e) {
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            log.error("重新渲染任务失败: id={}", job.getId(), cause);
+            markFailed(job.getId(), Objects.toString(cause.getMessage(), cause.getClass().getSimpleName()));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * 一块的渲染结果与检查点在同一事务内提交；版本不匹配而未写入的计为 stale
+     */
+    private void commitChunk(RenderJob job, Long lastArticleId, List<Outcome> outcomes, long chunkStart) {
+        List<RenderResult> changed = new ArrayList<>();
+        int unchanged = 0;
+        int failed = 0;
+        for (Outcome outcome : outcomes) {
+            if (outcome.result != null) {
+                changed.add(outcome.result);
+            } else if (outcome.failed) {
+                failed++;
+            } else {
+                unchanged++;
+            }
+        }
+        int unchangedCount = unchanged;
+        int failedCount = failed;
+        // 对外只发布保存后的副本，查询进度的线程不会读到下一块进行中的计数
+        current = transactionTemplate.execute(status -> {
+            List<Long> written = articleRepository.saveRenderResults(changed);
+            job.advance(lastArticleId, written.size(), unchangedCount, changed.size() - written.size(), failedCount,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - chunkStart));
+            if (!written.isEmpty()) {
+                eventPublisher.publishEvent(ArticleChangedEvent.of(written, ChangeType.UPDATED));
+            }
+            return renderJobRepository.save(job);
+        });
+    }
+
+    /**
+     * 渲染结果与库中一致且状态已是 RENDERED 时不写库，也不改动 updated_at
+     */
+    private Outcome render(RenderSource source) {
+        try {
+            RenderedContent renderedContent = markdownRenderer.renderUncached(source.getContent());
+            if (source.getRenderStatus() == RenderStatus.RENDERED
+                    && renderedContent.getHtml().equals(source.getRenderedHtml())) {
+                return Outcome.UNCHANGED;
+            }
+            return new Outcome(RenderResult.of(source.getId(), source.getRenderRevision(), renderedContent), false);
+        } catch (RuntimeException e) {
+            log.warn("重新渲染文章失败: id={}", source.getId(), e);
+            return Outcome.FAILED;
+        }
+    }
+
+    /**
+     * 内存中的任务可能已推进到未提交的检查点，按库中的检查点记录失败
+     */
+    private void markFailed(Long jobId, String message) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> renderJobRepository.findById(jobId).ifPresent(saved -> {
+                saved.fail(message.length() > 500 ? message.substring(0, 500) : message);
+                current = renderJobRepository.save(saved);
+            }));
+        } catch (RuntimeException e) {
+            log.warn("记录重新渲染任务失败状态时出错: id={}", jobId, e);
+        }
+    }
+
+    private static final class Outcome {
+        static final Outcome UNCHANGED = new Outcome(null, false);
+        static final Outcome FAILED = new Outcome(null, true);
+
+        final RenderResult result;
+        final boolean failed;
+
+        Outcome(RenderResult result, boolean failed) {
+            this.result = result;
+            this.failed = failed;
+        }
+    }
+}
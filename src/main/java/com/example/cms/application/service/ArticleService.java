@@ -1,19 +1,33 @@
 package com.example.cms.application.service;
 
+import com.example.cms.application.event.ArticleChangedEvent;
+import com.example.cms.application.event.ArticleChangedEvent.ChangeType;
 import com.example.cms.domain.model.article.Article;
-import com.example.cms.domain.model.article.ArticleStatus;
+import com.example.cms.domain.model.article.ArticleSummary;
+import com.example.cms.domain.model.article.ArticleVersion;
+import com.example.cms.domain.model.article.CompressedHtml;
+import com.example.cms.domain.model.article.FeedCursor;
+import com.example.cms.domain.model.article.FeedPage;
+import com.example.cms.domain.model.article.RenderStatus;
 import com.example.cms.domain.model.article.RenderedContent;
 import com.example.cms.domain.model.sortorder.ResourceType;
 import com.example.cms.domain.model.sortorder.SortOrder;
 import com.example.cms.domain.repository.ArticleRepository;
 import com.example.cms.domain.repository.CategoryRepository;
 import com.example.cms.domain.service.MarkdownRenderer;
+import com.example.cms.infrastructure.cache.CategoryNameDirectory;
+import com.example.cms.infrastructure.cache.PublishedArticleCache;
+import com.example.cms.infrastructure.stats.ArticleViewCounter;
+import com.example.cms.infrastructure.stats.TrendingArticles;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,94 +35,235 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ArticleService {
 
+    public static final int DEFAULT_FEED_PAGE_SIZE = 20;
+    public static final int MAX_FEED_PAGE_SIZE = 50;
+
     private final ArticleRepository articleRepository;
     private final CategoryRepository categoryRepository;
     private final MarkdownRenderer markdownRenderer;
+    private final ArticleRenderPipeline renderPipeline;
     private final SortOrderService sortOrderService;
+    private final PublishedArticleCache publishedArticleCache;
+    private final ArticleViewCounter articleViewCounter;
+    private final TrendingArticles trendingArticles;
+    private final CategoryNameDirectory categoryNameDirectory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    /**
+     * 分类校验与渲染在事务外完成，事务只覆盖写库，渲染期间不占用数据库连接
+     */
     public Article create(String title, String content, Long categoryId, String keywords) {
         validateCategoryExists(categoryId);
 
-        RenderedContent renderedContent = markdownRenderer.render(content);
+        boolean deferred = renderPipeline.isDeferred(content);
+        RenderedContent renderedContent = deferred ? RenderedContent.of("") : markdownRenderer.render(content);
+        CompressedHtml variants = deferred ? null : CompressedHtml.compress(renderedContent);
 
-        Article article = Article.builder()
-                .title(title)
-                .content(content)
-                .renderedContent(renderedContent)
-                .categoryId(categoryId)
-                .keywords(keywords)
-                .build();
-        return articleRepository.save(article);
+        return transactionTemplate.execute(status -> {
+            Article article = Article.builder()
+                    .title(title)
+                    .content(content)
+                    .renderedContent(renderedContent)
+                    .renderStatus(deferred ? RenderStatus.PENDING : RenderStatus.RENDERED)
+                    .categoryId(categoryId)
+                    .keywords(keywords)
+                    .build();
+            Article saved = articleRepository.save(article);
+            if (deferred) {
+                renderPipeline.submitAfterCommit(saved.getId(), saved.getRenderRevision(), content);
+            } else {
+                articleRepository.saveHtmlVariants(saved.getId(), variants);
+            }
+            eventPublisher.publishEvent(ArticleChangedEvent.of(saved.getId(), ChangeType.CREATED));
+            return saved;
+        });
     }
 
-    @Transactional
+    /**
+     * 同 create，先在事务外渲染新正文，再在事务内读取文章并写回
+     */
     public Article update(Long id, String title, String content, Long categoryId) {
-        Article article = articleRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("文章不存在: " + id));
-
         validateCategoryExists(categoryId);
 
-        RenderedContent renderedContent = markdownRenderer.render(content);
-        article.updateContent(content, renderedContent);
-        article.changeCategory(categoryId);
+        boolean deferred = renderPipeline.isDeferred(content);
+        RenderedContent renderedContent = deferred ? null : markdownRenderer.render(content);
+        CompressedHtml variants = deferred ? null : CompressedHtml.compress(renderedContent);
+
+        return transactionTemplate.execute(status -> {
+            Article article = articleRepository.findById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("文章不存在: " + id));
+            if (deferred) {
+                article.updateContentPendingRender(content);
+            } else {
+                article.updateContent(content, renderedContent);
+            }
+            article.changeCategory(categoryId);
 
-        return articleRepository.save(article);
+            Article saved = articleRepository.save(article);
+            if (deferred) {
+                renderPipeline.submitAfterCommit(id, saved.getRenderRevision(), content);
+            } else {
+                articleRepository.saveHtmlVariants(id, variants);
+            }
+            eventPublisher.publishEvent(ArticleChangedEvent.of(id, ChangeType.UPDATED));
+            return saved;
+        });
     }
 
     @Transactional
     public void delete(Long id) {
         articleRepository.deleteById(id);
+        eventPublisher.publishEvent(ArticleChangedEvent.of(id, ChangeType.DELETED));
     }
 
+    /**
+     * 单条 UPDATE 只改状态与时间列；未命中时再读元数据区分不存在、未渲染完成和已发布
+     */
     @Transactional
     public Article publish(Long id) {
-        Article article = articleRepository.findById(id)
+        if (!articleRepository.markPublished(id, LocalDateTime.now())) {
+            Article article = articleRepository.findMetadataById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("文章不存在: " + id));
+            if (!article.isRendered()) {
+                throw new IllegalArgumentException(article.getRenderStatus() == RenderStatus.FAILED
+                        ? "文章渲染失败，请修改内容后重试: " + id
+                        : "文章正在渲染，完成后才能发布: " + id);
+            }
+        }
+        eventPublisher.publishEvent(ArticleChangedEvent.of(id, ChangeType.PUBLISHED));
+        return articleRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("文章不存在: " + id));
-        article.publish();
-        return articleRepository.save(article);
     }
 
     @Transactional
     public Article unpublish(Long id) {
-        Article article = articleRepository.findById(id)
+        if (!articleRepository.markUnpublished(id)) {
+            articleRepository.findMetadataById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("文章不存在: " + id));
+        }
+        eventPublisher.publishEvent(ArticleChangedEvent.of(id, ChangeType.UNPUBLISHED));
+        return articleRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("文章不存在: " + id));
-        article.unpublish();
-        return articleRepository.save(article);
     }
 
     public Optional<Article> findById(Long id) {
         return articleRepository.findById(id);
     }
 
+    /**
+     * 前台读取已发布文章，走进程内缓存
+     */
+    public Optional<Article> findPublishedById(Long id) {
+        return publishedArticleCache.getPublished(id, articleRepository::findById);
+    }
+
+    /**
+     * 已发布文章的最后修改时间与所属分类，用于条件请求；缓存命中时不访问数据库，未命中时只查询两列
+     */
+    public Optional<ArticleVersion> findPublishedVersion(Long id) {
+        Optional<Article> cached = publishedArticleCache.peekPublished(id);
+        if (cached.isPresent()) {
+            return Optional.of(new ArticleVersion(cached.get().getAudit().getUpdatedAt(), cached.get().getCategoryId()));
+        }
+        return articleRepository.findPublishedVersion(id);
+    }
+
+    /**
+     * 已发布文章 JSON 表示的最后修改时间：响应含分类名，取文章与所属分类中较晚的修改时间，分类改名后校验器随之变化
+     */
+    public Optional<LocalDateTime> findPublishedLastModified(Long id) {
+        return findPublishedVersion(id).map(version -> {
+            LocalDateTime categoryUpdatedAt = categoryNameDirectory.updatedAtOf(version.getCategoryId());
+            return categoryUpdatedAt != null && categoryUpdatedAt.isAfter(version.getUpdatedAt())
+                    ? categoryUpdatedAt : version.getUpdatedAt();
+        });
+    }
+
+    /**
+     * 已发布文章渲染结果的预压缩副本；历史文章尚未补齐时临时压缩一次并缓存
+     */
+    public Optional<CompressedHtml> findPublishedHtmlVariants(Long id) {
+        return findPublishedById(id)
+                .map(article -> publishedArticleCache.getHtmlVariants(id, key -> articleRepository.findHtmlVariants(key)
+                        .orElseGet(() -> CompressedHtml.compress(article.getRenderedContent()))));
+    }
+
+    /**
+     * 记录一次阅读，只更新内存中的计数器与热门统计
+     */
+    public void recordView(Long id) {
+        articleViewCounter.record(id);
+        trendingArticles.record(id);
+    }
+
+    /**
+     * 近期阅读最多的已发布文章，读取定时刷新的快照，页大小限制在 [1, TrendingArticles.MAX_SIZE]
+     */
+    public List<ArticleSummary> findTrending(Long categoryId, Integer size) {
+        int limit = size == null ? DEFAULT_FEED_PAGE_SIZE : Math.max(1, Math.min(size, TrendingArticles.MAX_SIZE));
+        return trendingArticles.top(categoryId, limit);
+    }
+
+    /**
+     * 已发布文章的阅读数：数据库中已写入的值加上内存中尚未写入的值
+     */
+    public Optional<Long> findViewCount(Long id) {
+        return articleRepository.findPublishedViewCount(id)
+                .map(persisted -> persisted + articleViewCounter.pending(id));
+    }
+
     public List<Article> findAll() {
         return articleRepository.findAll();
     }
 
-    public List<Article> findPublished() {
-        return articleRepository.findByStatusOrderByPublishedAtDesc(ArticleStatus.PUBLISHED);
+    public List<ArticleSummary> findSummaries() {
+        return articleRepository.findAllSummaries();
     }
 
-    public List<Article> findByCategory(Long categoryId) {
-        return articleRepository.findByCategoryIdAndStatus(categoryId, ArticleStatus.PUBLISHED);
+    /**
+     * 已发布文章流的键集分页，页大小限制在 [1, MAX_FEED_PAGE_SIZE]
+     * 全站与单个分类的首页从列表缓存截取；包含子分类时经闭包表查询，不走列表缓存（分类移动不会使其失效）
+     */
+    public FeedPage<ArticleSummary> findPublishedPage(String cursor, Long categoryId, boolean includeSubcategories,
+                                                      Integer size) {
+        int pageSize = size == null ? DEFAULT_FEED_PAGE_SIZE : Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+        FeedCursor after = FeedCursor.decode(cursor);
+        boolean subtree = includeSubcategories && categoryId != null;
+        List<ArticleSummary> rows;
+        if (after == null && !subtree) {
+            List<ArticleSummary> head = publishedArticleCache.getFeed(categoryId,
+                    () -> articleRepository.findPublishedAfter(null, categoryId, false, MAX_FEED_PAGE_SIZE + 1));
+            rows = head.size() > pageSize + 1 ? head.subList(0, pageSize + 1) : head;
+        } else {
+            rows = articleRepository.findPublishedAfter(after, categoryId, subtree, pageSize + 1);
+        }
+        if (rows.size() <= pageSize) {
+            return FeedPage.of(rows, null);
+        }
+        List<ArticleSummary> items = rows.subList(0, pageSize);
+        ArticleSummary last = items.get(pageSize - 1);
+        return FeedPage.of(items, FeedCursor.of(last.getPublishedAt(), last.getId()));
     }
 
-    public Page<Article> search(String keyword, Long categoryId, Pageable pageable) {
+    public Page<ArticleSummary> search(String keyword, Long categoryId, Pageable pageable) {
         return articleRepository.searchByKeyword(keyword, categoryId, pageable);
     }
 
+    /**
+     * 查进程内分类目录，不占用数据库连接；校验之后分类被删除时由外键约束拒绝写入
+     */
     private void validateCategoryExists(Long categoryId) {
-        if (!categoryRepository.findById(categoryId).isPresent()) {
+        if (!categoryNameDirectory.contains(categoryId)) {
             throw new IllegalArgumentException("分类不存在: " + categoryId);
         }
     }
 
     @Transactional
     public void changeCategory(Long articleId, Long newCategoryId) {
-        Article article = articleRepository.findById(articleId)
-                .orElseThrow(() -> new IllegalArgumentException("文章不存在: " + articleId));
-        categoryRepository.findById(newCategoryId)
-                .orElseThrow(() -> new IllegalArgumentException("目标分类不存在: " + newCategoryId));
+        if (!categoryRepository.existsByCategoryId(newCategoryId)) {
+            throw new IllegalArgumentException("目标分类不存在: " + newCategoryId);
+        }
 
         SortOrder currentSort = sortOrderService.getArticleSortOrder(articleId);
         int newSortOrder = 0;
@@ -117,13 +272,12 @@ public class ArticleService {
             return;
         }
 
-        List<SortOrder> siblings = sortOrderService.getChildrenByParent(
-                ResourceType.CATEGORY, newCategoryId
-        );
-        newSortOrder = siblings.size();
+        newSortOrder = sortOrderService.countChildren(ResourceType.CATEGORY, newCategoryId);
 
-        article.setCategoryId(newCategoryId);
-        articleRepository.save(article);
+        if (!articleRepository.updateCategory(articleId, newCategoryId)) {
+            throw new IllegalArgumentException("文章不存在: " + articleId);
+        }
+        eventPublisher.publishEvent(ArticleChangedEvent.of(articleId, ChangeType.CATEGORY_CHANGED));
 
         if (currentSort != null) {
             sortOrderService.moveArticleToCategory(articleId, newCategoryId, newSortOrder);
@@ -1,26 +1,31 @@
 package com.example.cms.application.service;
 
+import com.example.cms.application.event.CategoryChangedEvent;
+import com.example.cms.application.event.CategoryChangedEvent.ChangeType;
 import com.example.cms.domain.model.category.Category;
 import com.example.cms.domain.model.sortorder.ResourceType;
 import com.example.cms.domain.model.sortorder.SortOrder;
+import com.example.cms.domain.repository.CategoryClosureRepository;
 import com.example.cms.domain.repository.CategoryRepository;
 import com.example.cms.domain.repository.ArticleRepository;
 import com.example.cms.presentation.dto.CategoryTreeResponse;
-import com.example.cms.presentation.dto.CategoryTreeNode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryClosureRepository categoryClosureRepository;
     private final ArticleRepository articleRepository;
     private final SortOrderService sortOrderService;
+    private final CategoryTreeCache categoryTreeCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Category create(String name, String description) {
@@ -48,6 +53,7 @@ public class CategoryService {
 
         // 初始化排序 - 根分类的 parentType 和 parentId 都为 null
         sortOrderService.initializeCategorySortOrder(saved.getId(), parentId, sortOrder);
+        eventPublisher.publishEvent(CategoryChangedEvent.of(saved.getId(), ChangeType.CREATED));
 
         return saved;
     }
@@ -65,7 +71,9 @@ public class CategoryService {
         if (description != null) {
             category.updateDescription(description);
         }
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        eventPublisher.publishEvent(CategoryChangedEvent.of(id, ChangeType.UPDATED));
+        return saved;
     }
 
     @Transactional
@@ -74,6 +82,7 @@ public class CategoryService {
             throw new IllegalArgumentException("该分类下有文章，无法删除");
         }
         categoryRepository.deleteById(id);
+        eventPublisher.publishEvent(CategoryChangedEvent.of(id, ChangeType.DELETED));
     }
 
     public Optional<Category> findById(Long id) {
@@ -84,52 +93,11 @@ public class CategoryService {
         return categoryRepository.findAll();
     }
 
-    @Transactional
+    /**
+     * 分类树读自内存快照，不查询数据库
+     */
     public CategoryTreeResponse getTree() {
-        List<SortOrder> rootSortOrders = sortOrderService.getChildrenByParent(null, null);
-        if (rootSortOrders.isEmpty()) {
-            return CategoryTreeResponse.builder().tree(new ArrayList<>()).build();
-        }
-        List<Long> rootIds = rootSortOrders.stream()
-                .map(SortOrder::getResourceId)
-                .toList();
-        Map<Long, Category> categoryMap = categoryRepository.findByIds(rootIds).stream()
-                .collect(Collectors.toMap(Category::getId, c -> c));
-
-        List<CategoryTreeNode> tree = new ArrayList<>();
-        for (SortOrder so : rootSortOrders) {
-            Category category = categoryMap.get(so.getResourceId());
-            if (category != null) {
-                tree.add(buildTreeNode(category, so.getSortOrder()));
-            }
-        }
-        return CategoryTreeResponse.builder().tree(tree).build();
-    }
-
-    private CategoryTreeNode buildTreeNode(Category category, Integer sortOrder) {
-        CategoryTreeNode node = CategoryTreeNode.from(
-                category.getId(),
-                category.getName(),
-                category.getDescription(),
-                sortOrder
-        );
-        List<SortOrder> children = sortOrderService.getChildrenByParent(
-                ResourceType.CATEGORY, category.getId()
-        );
-        if (!children.isEmpty()) {
-            List<Long> childIds = children.stream()
-                    .map(SortOrder::getResourceId)
-                    .toList();
-            Map<Long, Category> childMap = categoryRepository.findByIds(childIds).stream()
-                    .collect(Collectors.toMap(Category::getId, c -> c));
-            for (SortOrder child : children) {
-                Category childCategory = childMap.get(child.getResourceId());
-                if (childCategory != null) {
-                    node.getChildren().add(buildTreeNode(childCategory, child.getSortOrder()));
-                }
-            }
-        }
-        return node;
+        return categoryTreeCache.current().getTree();
     }
 
     @Transactional
@@ -142,35 +110,48 @@ public class CategoryService {
             validateNoCycle(categoryId, newParentId);
         }
         sortOrderService.moveCategoryToParent(categoryId, newParentId);
+        eventPublisher.publishEvent(CategoryChangedEvent.of(categoryId, ChangeType.MOVED));
     }
 
+    /**
+     * 目标父分类是自身或自身的后代时会成环，闭包表一次查询即可判断
+     */
     private void validateNoCycle(Long categoryId, Long targetParentId) {
-        Set<Long> visited = new HashSet<>();
-        Long currentId = targetParentId;
-        while (currentId != null) {
-            if (visited.contains(currentId)) {
-                throw new IllegalArgumentException("检测到循环引用");
-            }
-            if (currentId.equals(categoryId)) {
-                throw new IllegalArgumentException("不能将分类移动到其子分类下");
-            }
-            visited.add(currentId);
-            SortOrder currentSort = sortOrderService.getCategorySortOrder(currentId);
-            if (currentSort == null || currentSort.getParentId() == null) {
-                break;
-            }
-            currentId = currentSort.getParentId();
+        if (categoryClosureRepository.isInSubtree(categoryId, targetParentId)) {
+            throw new IllegalArgumentException("不能将分类移动到其子分类下");
         }
     }
 
+    /**
+     * 从根分类到该分类的路径（面包屑），分类不存在时为空
+     */
+    public List<Category> getPath(Long categoryId) {
+        List<Long> ancestorIds = categoryClosureRepository.findAncestorIds(categoryId);
+        if (ancestorIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Category> categories = new HashMap<>();
+        for (Category category : categoryRepository.findByIds(ancestorIds)) {
+            categories.put(category.getId(), category);
+        }
+        return ancestorIds.stream()
+                .map(categories::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 级联删除时整棵子树按集合处理：闭包表一次取出子树，文章检查一次聚合查询，
+     * sort_orders 与 categories 各一条批量 DELETE（闭包行随分类外键级联删除），语句数与子树大小无关
+     */
     @Transactional
     public void deleteWithCascade(Long categoryId, boolean cascade) {
+        List<Long> categoryIds;
         if (cascade) {
-            List<SortOrder> children = sortOrderService.getChildrenByParent(
-                    ResourceType.CATEGORY, categoryId
-            );
-            for (SortOrder child : children) {
-                deleteWithCascade(child.getResourceId(), true);
+            categoryIds = categoryClosureRepository.findDescendantIds(categoryId);
+            if (categoryIds.isEmpty()) {
+                // 没有排序记录的分类不在闭包表中，只删除自身
+                categoryIds = List.of(categoryId);
             }
         } else {
             List<SortOrder> children = sortOrderService.getChildrenByParent(
@@ -179,11 +160,13 @@ public class CategoryService {
             if (!children.isEmpty()) {
                 throw new IllegalArgumentException("该分类下有子分类，无法删除");
             }
+            categoryIds = List.of(categoryId);
         }
-        if (articleRepository.existsByCategoryId(categoryId)) {
+        if (articleRepository.existsByCategoryIdIn(categoryIds)) {
             throw new IllegalArgumentException("该分类下有文章，无法删除");
         }
-        sortOrderService.deleteSortOrder(ResourceType.CATEGORY, categoryId);
-        categoryRepository.deleteById(categoryId);
+        sortOrderService.deleteCategorySortOrders(categoryIds);
+        categoryRepository.deleteAllByIds(categoryIds);
+        eventPublisher.publishEvent(CategoryChangedEvent.of(categoryIds, ChangeType.DELETED));
     }
 }
@@ -0,0 +1,134 @@
+package com.example.cms.application.service;
+
+import com.example.cms.application.event.CategoryChangedEvent;
+import com.example.cms.domain.model.category.CategoryTreeEntry;
+import com.example.cms.domain.repository.CategoryRepository;
+import com.example.cms.infrastructure.cache.ImmutableLongMap;
+import com.example.cms.presentation.dto.CategoryTreeNode;
+import com.example.cms.presentation.dto.CategoryTreeResponse;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 分类树的不可变快照：一次联结查询取出全部分类排序记录，在内存中按父节点分组、按 sort_rank 排序组装
+ * 任一分类增删改、移动或排序变化提交后整体重建并替换，读取只取 volatile 引用，不加锁、不查库
+ * 版本号带上进程启动时间，重启后不会与之前签发的 ETag 重复
+ */
+@Component
+@Slf4j
+public class CategoryTreeCache {
+
+    /** 父节点为空（根分类）排在最前，同一父节点下按 sort_rank、ID 排序，使同级节点连续排列 */
+    private static final Comparator<CategoryTreeEntry> SIBLING_ORDER = Comparator
+            .comparing(CategoryTreeEntry::getParentId, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(CategoryTreeEntry::getSortRank)
+            .thenComparing(CategoryTreeEntry::getId);
+
+    private final CategoryRepository categoryRepository;
+    private final long epoch = System.currentTimeMillis();
+
+    private long version;
+    private volatile Snapshot snapshot;
+
+    public CategoryTreeCache(CategoryRepository categoryRepository) {
+        this.categoryRepository = categoryRepository;
+    }
+
+    /**
+     * 当前快照；启动完成前被访问时先同步构建一次
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        return current != null ? current : rebuild();
+    }
+
+    /**
+     * 启动时的数据补齐（如 sort_orders 初始化）不发布事件，就绪后再构建首个快照
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Snapshot loaded = rebuild();
+        log.info("分类树快照已加载: {} 个分类", loaded.getSize());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * 串行重建：最后执行的一次发生在所有已触发的提交之后，读到的一定是最新数据，不会被较旧的快照覆盖
+     */
+    private synchronized Snapshot rebuild() {
+        CategoryTreeEntry[] entries = categoryRepository.findTreeEntries().toArray(new CategoryTreeEntry[0]);
+        Arrays.sort(entries, SIBLING_ORDER);
+
+        // 父分类 ID → 其子节点在 entries 中的区间 [start, end)
+        ImmutableLongMap.Builder<int[]> children = ImmutableLongMap.builder(entries.length);
+        int rootEnd = 0;
+        int start = 0;
+        while (start < entries.length) {
+            Long parentId = entries[start].getParentId();
+            int end = start + 1;
+            while (end < entries.length && Objects.equals(entries[end].getParentId(), parentId)) {
+                end++;
+            }
+            if (parentId == null) {
+                rootEnd = end;
+            } else {
+                children.put(parentId, new int[]{start, end});
+            }
+            start = end;
+        }
+
+        List<CategoryTreeNode> tree = buildNodes(entries, 0, rootEnd, children.build());
+        Snapshot rebuilt = new Snapshot(++version, System.currentTimeMillis(), epoch,
+                CategoryTreeResponse.builder().tree(tree).build(), entries.length);
+        snapshot = rebuilt;
+        return rebuilt;
+    }
+
+    /**
+     * 父节点不在树中（或成环）的分类从根出发不可达，与逐层查询时一样不出现在结果中
+     * 节点的 sortOrder 是按排序键排列的同级位置，不读取 sort_orders.sort_order
+     */
+    private static List<CategoryTreeNode> buildNodes(CategoryTreeEntry[] entries, int start, int end,
+                                                     ImmutableLongMap<int[]> children) {
+        List<CategoryTreeNode> nodes = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            CategoryTreeEntry entry = entries[i];
+            int[] range = children.get(entry.getId());
+            nodes.add(CategoryTreeNode.builder()
+                    .id(entry.getId())
+                    .name(entry.getName())
+                    .description(entry.getDescription())
+                    .sortOrder(i - start)
+                    .children(range == null ? List.of() : buildNodes(entries, range[0], range[1], children))
+                    .build());
+        }
+        return List.copyOf(nodes);
+    }
+
+    @Value
+    public static class Snapshot {
+        long version;
+        long lastModified;
+        long epoch;
+        CategoryTreeResponse tree;
+        int size;
+
+        public String etag() {
+            return "\"tree-" + Long.toHexString(epoch) + "-" + version + "\"";
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.cms.application.service;
+
+import com.example.cms.domain.model.article.Article;
+import com.example.cms.domain.model.category.Category;
+import com.example.cms.domain.model.sortorder.SortOrder;
+import com.example.cms.domain.repository.ArticleRepository;
+import com.example.cms.domain.repository.CategoryRepository;
+import com.example.cms.domain.repository.SortOrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 全量导出：在一个只读事务内依次游标遍历分类、排序记录和文章，逐条交给 Sink 写出，不整体加载
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportService {
+
+    private final CategoryRepository categoryRepository;
+    private final SortOrderRepository sortOrderRepository;
+    private final ArticleRepository articleRepository;
+
+    @Transactional(readOnly = true)
+    public void export(Sink sink) {
+        long start = System.currentTimeMillis();
+        long[] counts = new long[3];
+        categoryRepository.scrollAll(category -> {
+            sink.category(category);
+            counts[0]++;
+        });
+        sortOrderRepository.scrollAll(sortOrder -> {
+            sink.sortOrder(sortOrder);
+            counts[1]++;
+        });
+        articleRepository.scrollAll(article -> {
+            sink.article(article);
+            counts[2]++;
+        });
+        log.info("全量导出完成: 分类 {}, 排序记录 {}, 文章 {}, 耗时 {} ms",
+                counts[0], counts[1], counts[2], System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 导出记录的接收方；写出失败时抛出的异常会中止导出
+     */
+    public interface Sink {
+        void category(Category category);
+
+        void sortOrder(SortOrder sortOrder);
+
+        void article(Article article);
+    }
+}
@@ -2,6 +2,7 @@ package com.example.cms.application.service;
 
 import com.example.cms.domain.model.sortorder.ResourceType;
 import com.example.cms.domain.model.sortorder.SortOrder;
+import com.example.cms.domain.model.sortorder.SortParent;
 
 import java.util.List;
 
@@ -13,7 +14,11 @@ public interface SortOrderService {
     SortOrder getCategorySortOrder(Long categoryId);
     SortOrder getArticleSortOrder(Long articleId);
     List<SortOrder> getChildrenByParent(ResourceType parentType, Long parentId);
+    int countChildren(ResourceType parentType, Long parentId);
     void deleteSortOrder(ResourceType resourceType, Long resourceId);
+    void deleteCategorySortOrders(List<Long> categoryIds);
     void deleteChildrenSortOrders(ResourceType parentType, Long parentId);
     void moveArticleToCategory(Long articleId, Long newCategoryId, int sortOrder);
+    void move(com.example.cms.presentation.dto.MoveSortOrderRequest request);
+    int rebalanceRanks(SortParent parent);
 }
@@ -1,31 +1,96 @@
 package com.example.cms.application.service;
 
+import com.example.cms.application.event.CategoryChangedEvent;
 import com.example.cms.domain.model.sortorder.ResourceType;
 import com.example.cms.domain.model.sortorder.SortOrder;
+import com.example.cms.domain.model.sortorder.SortParent;
+import com.example.cms.domain.model.sortorder.SortRank;
+import com.example.cms.domain.repository.CategoryClosureRepository;
 import com.example.cms.domain.repository.SortOrderRepository;
+import com.example.cms.presentation.dto.MoveSortOrderRequest;
 import com.example.cms.presentation.dto.OrderItem;
 import com.example.cms.presentation.dto.ReorderRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class SortOrderServiceImpl implements SortOrderService {
 
     private final SortOrderRepository sortOrderRepository;
+    private final CategoryClosureRepository categoryClosureRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 每种资源类型一次 IN 查询解析并锁定请求中的排序记录，任一项不存在时整体回滚；同一资源出现多次时以最后一项为准
+     * 排列只以 sort_rank 为准：请求中的项按请求的位置排列，其中已符合目标先后的最长子序列保持不动，
+     * 其余项成段插到目标相邻项之间，只改写这些项的排序键，不锁定、不重写其他同级记录；未列出的同级项位置不变
+     * 相邻键之间已无空间时先压缩该父节点下的排序键，日常的键长压缩由 SortRankRebalancer 负责
+     */
     @Override
     @Transactional
     public void reorder(ReorderRequest request) {
+        Map<ResourceType, Map<Long, Integer>> positions = new EnumMap<>(ResourceType.class);
         for (OrderItem item : request.getItems()) {
-            SortOrder sortOrder = sortOrderRepository
-                    .findByResourceTypeAndResourceId(item.getResourceType(), item.getResourceId())
-                    .orElseThrow(() -> new IllegalArgumentException(
-                        "SortOrder not found for " + item.getResourceType() + ":" + item.getResourceId()));
-            sortOrderRepository.updateSortOrder(sortOrder.getId(), item.getSortOrder());
+            if (item.getResourceType() == null || item.getResourceId() == null) {
+                throw new IllegalArgumentException(
+                        "SortOrder not found for " + item.getResourceType() + ":" + item.getResourceId());
+            }
+            if (item.getSortOrder() == null) {
+                throw new IllegalArgumentException("排序位置不能为空: " + item.getResourceType() + ":" + item.getResourceId());
+            }
+            positions.computeIfAbsent(item.getResourceType(), type -> new LinkedHashMap<>())
+                    .put(item.getResourceId(), item.getSortOrder());
+        }
+
+        Map<Long, Integer> positionById = new HashMap<>();
+        Map<SortParent, List<SortOrder>> listedByParent = new LinkedHashMap<>();
+        for (Map.Entry<ResourceType, Map<Long, Integer>> entry : positions.entrySet()) {
+            ResourceType resourceType = entry.getKey();
+            Map<Long, SortOrder> byResource = new HashMap<>();
+            for (SortOrder sortOrder : sortOrderRepository.findByResourceTypeAndResourceIdsForUpdate(
+                    resourceType, List.copyOf(entry.getValue().keySet()))) {
+                byResource.put(sortOrder.getResourceId(), sortOrder);
+            }
+            entry.getValue().forEach((resourceId, position) -> {
+                SortOrder sortOrder = byResource.get(resourceId);
+                if (sortOrder == null) {
+                    throw new IllegalArgumentException("SortOrder not found for " + resourceType + ":" + resourceId);
+                }
+                positionById.put(sortOrder.getId(), position);
+                listedByParent.computeIfAbsent(sortOrder.getParent(), parent -> new ArrayList<>()).add(sortOrder);
+            });
+        }
+
+        List<SortOrder> changed = new ArrayList<>();
+        for (Map.Entry<SortParent, List<SortOrder>> entry : listedByParent.entrySet()) {
+            List<SortOrder> placed = placeInRequestedOrder(entry.getKey(), entry.getValue(), positionById);
+            if (placed == null) {
+                rebalanceRanks(entry.getKey());
+                placed = placeInRequestedOrder(entry.getKey(), reload(entry.getValue()), positionById);
+                if (placed == null) {
+                    throw new IllegalStateException("压缩排序键后仍无法生成新键: " + entry.getKey());
+                }
+            }
+            changed.addAll(placed);
+        }
+        sortOrderRepository.updateSortRanks(changed);
+        List<Long> categoryIds = changed.stream()
+                .filter(sortOrder -> sortOrder.getResourceType() == ResourceType.CATEGORY)
+                .map(SortOrder::getResourceId)
+                .toList();
+        if (!categoryIds.isEmpty()) {
+            eventPublisher.publishEvent(CategoryChangedEvent.of(categoryIds, CategoryChangedEvent.ChangeType.REORDERED));
         }
     }
 
@@ -41,8 +106,10 @@ public class SortOrderServiceImpl implements SortOrderService {
                 .parentType(parentId != null ? ResourceType.CATEGORY : null)
                 .parentId(parentId)
                 .sortOrder(sortOrder)
+                .sortRank(rankAt(new SortParent(parentId != null ? ResourceType.CATEGORY : null, parentId), sortOrder))
                 .build();
         sortOrderRepository.save(newSortOrder);
+        categoryClosureRepository.insertNode(categoryId, parentId);
     }
 
     @Override
@@ -57,6 +124,7 @@ public class SortOrderServiceImpl implements SortOrderService {
                 .parentType(ResourceType.CATEGORY)
                 .parentId(categoryId)
                 .sortOrder(sortOrder)
+                .sortRank(rankAt(new SortParent(ResourceType.CATEGORY, categoryId), sortOrder))
                 .build();
         sortOrderRepository.save(newSortOrder);
     }
@@ -68,16 +136,8 @@ public class SortOrderServiceImpl implements SortOrderService {
                 .findByResourceTypeAndResourceId(ResourceType.CATEGORY, categoryId)
                 .orElseThrow(() -> new IllegalArgumentException("分类排序记录不存在: " + categoryId));
 
-        int newSortOrder = 0;
-        if (newParentId != null) {
-            List<SortOrder> siblings = sortOrderRepository
-                    .findByParentTypeAndParentIdOrderBySortOrder(ResourceType.CATEGORY, newParentId);
-            newSortOrder = siblings.size();
-        } else {
-            List<SortOrder> rootCategories = sortOrderRepository
-                    .findByParentTypeAndParentIdOrderBySortOrder(null, null);
-            newSortOrder = rootCategories.size();
-        }
+        SortParent newParent = new SortParent(newParentId != null ? ResourceType.CATEGORY : null, newParentId);
+        int newSortOrder = sortOrderRepository.countByParent(newParent);
 
         SortOrder updated = SortOrder.builder()
                 .id(sortOrder.getId())
@@ -86,8 +146,10 @@ public class SortOrderServiceImpl implements SortOrderService {
                 .parentType(newParentId != null ? ResourceType.CATEGORY : null)
                 .parentId(newParentId)
                 .sortOrder(newSortOrder)
+                .sortRank(rankAt(newParent, newSortOrder))
                 .build();
         sortOrderRepository.save(updated);
+        categoryClosureRepository.moveSubtree(categoryId, newParentId);
     }
 
     @Override
@@ -106,13 +168,30 @@ public class SortOrderServiceImpl implements SortOrderService {
 
     @Override
     public List<SortOrder> getChildrenByParent(ResourceType parentType, Long parentId) {
-        return sortOrderRepository.findByParentTypeAndParentIdOrderBySortOrder(parentType, parentId);
+        return sortOrderRepository.findByParentOrderBySortRank(new SortParent(parentType, parentId));
+    }
+
+    @Override
+    public int countChildren(ResourceType parentType, Long parentId) {
+        return sortOrderRepository.countByParent(new SortParent(parentType, parentId));
     }
 
     @Override
     @Transactional
     public void deleteSortOrder(ResourceType resourceType, Long resourceId) {
         sortOrderRepository.deleteByResourceTypeAndResourceId(resourceType, resourceId);
+        if (resourceType == ResourceType.CATEGORY) {
+            categoryClosureRepository.deleteNode(resourceId);
+        }
+    }
+
+    /**
+     * 闭包行随分类删除由外键级联清理，调用方须在同一事务内删除这些分类
+     */
+    @Override
+    @Transactional
+    public void deleteCategorySortOrders(List<Long> categoryIds) {
+        sortOrderRepository.deleteByResourceTypeAndResourceIds(ResourceType.CATEGORY, categoryIds);
     }
 
     @Override
@@ -136,10 +215,281 @@ public class SortOrderServiceImpl implements SortOrderService {
                     .parentType(ResourceType.CATEGORY)
                     .parentId(newCategoryId)
                     .sortOrder(sortOrder)
+                    .sortRank(rankAt(new SortParent(ResourceType.CATEGORY, newCategoryId), sortOrder))
                     .build();
             sortOrderRepository.save(updated);
         } else {
             initializeArticleSortOrder(articleId, newCategoryId, sortOrder);
         }
     }
+
+    /**
+     * 把一项移到同级的 afterResourceId 之后或 beforeResourceId 之前：只读取相邻记录，只改写被移动项的排序键
+     * 相邻键之间已无空间（或并发移动产生了相同的键）时先压缩该父节点下的排序键
+     */
+    @Override
+    @Transactional
+    public void move(MoveSortOrderRequest request) {
+        ResourceType resourceType = request.getResourceType();
+        if (request.getAfterResourceId() == null && request.getBeforeResourceId() == null) {
+            throw new IllegalArgumentException("必须指定 afterResourceId 或 beforeResourceId");
+        }
+        SortOrder item = sortOrderRepository
+                .findByResourceTypeAndResourceIdForUpdate(resourceType, request.getResourceId())
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "SortOrder not found for " + resourceType + ":" + request.getResourceId()));
+        SortParent parent = item.getParent();
+
+        String rank = rankBetween(parent, neighbour(item, request.getAfterResourceId()),
+                neighbour(item, request.getBeforeResourceId()));
+        if (rank == null) {
+            rebalanceRanks(parent);
+            rank = rankBetween(parent, neighbour(item, request.getAfterResourceId()),
+                    neighbour(item, request.getBeforeResourceId()));
+        }
+        sortOrderRepository.updateSortRank(item.getId(), rank);
+        if (resourceType == ResourceType.CATEGORY) {
+            eventPublisher.publishEvent(CategoryChangedEvent.of(
+                    item.getResourceId(), CategoryChangedEvent.ChangeType.REORDERED));
+        }
+    }
+
+    /**
+     * 按当前排列重新生成等间距的排序键，序号同时改为排列位置，返回改写的记录数
+     */
+    @Override
+    @Transactional
+    public int rebalanceRanks(SortParent parent) {
+        List<SortOrder> siblings = sortOrderRepository.findByParentOrderBySortRankForUpdate(parent);
+        List<SortOrder> changed = assignSpacedRanks(siblings, true);
+        if (changed.stream().anyMatch(sortOrder -> sortOrder.getResourceType() == ResourceType.CATEGORY)) {
+            eventPublisher.publishEvent(CategoryChangedEvent.of(
+                    changed.stream()
+                            .filter(sortOrder -> sortOrder.getResourceType() == ResourceType.CATEGORY)
+                            .map(SortOrder::getResourceId)
+                            .toList(),
+                    CategoryChangedEvent.ChangeType.REORDERED));
+        }
+        return changed.size();
+    }
+
+    /**
+     * 为按目标顺序排列的同级记录分配等间距排序键，只写入发生变化的记录并返回它们
+     */
+    private List<SortOrder> assignSpacedRanks(List<SortOrder> ordered, boolean renumber) {
+        List<String> ranks = SortRank.spaced(ordered.size());
+        List<SortOrder> changed = new ArrayList<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            SortOrder sortOrder = ordered.get(i);
+            String rank = ranks.get(i);
+            int position = renumber ? i : sortOrder.getSortOrder();
+            if (!rank.equals(sortOrder.getSortRank()) || position != sortOrder.getSortOrder()) {
+                sortOrder.updateRank(rank);
+                sortOrder.updateOrder(position);
+                changed.add(sortOrder);
+            }
+        }
+        sortOrderRepository.updateSortRanks(changed);
+        return changed;
+    }
+
+    /**
+     * 插入到同级第 position 位（从 0 开始，超出末尾时排在最后）应使用的排序键：
+     * 位于按 sort_rank 排列的第 position - 1 项与第 position 项之间，只读取这两条记录，不依赖序号
+     */
+    private String rankAt(SortParent parent, int position) {
+        String rank = findRankAt(parent, position);
+        if (rank == null) {
+            rebalanceRanks(parent);
+            rank = findRankAt(parent, position);
+        }
+        return rank;
+    }
+
+    private String findRankAt(SortParent parent, int position) {
+        String lo = null;
+        String hi;
+        if (position <= 0) {
+            hi = rankOf(sortOrderRepository.findByParentOrderBySortRank(parent, 0, 1), 0);
+        } else {
+            List<SortOrder> around = sortOrderRepository.findByParentOrderBySortRank(parent, position - 1, 2);
+            if (around.isEmpty()) {
+                // 超出末尾时排在最后一项之后
+                int count = sortOrderRepository.countByParent(parent);
+                around = count > 0 ? sortOrderRepository.findByParentOrderBySortRank(parent, count - 1, 1) : List.of();
+            }
+            lo = rankOf(around, 0);
+            hi = rankOf(around, 1);
+        }
+        if (lo != null && hi != null && lo.compareTo(hi) >= 0) {
+            return null;
+        }
+        String rank = SortRank.between(lo, hi);
+        return rank.length() > SortRank.MAX_LENGTH ? null : rank;
+    }
+
+    private static String rankOf(List<SortOrder> sortOrders, int index) {
+        return index < sortOrders.size() ? sortOrders.get(index).getSortRank() : null;
+    }
+
+    /**
+     * 为同一父节点下的列出项计算新排序键（只改内存中的对象），返回需要写入的项；相邻键之间已无空间时返回 null
+     * 按当前排列已是递增的最长子序列不动，其余连续的一段在目标前一项之后、后一项之前二分取键，
+     * 并且紧挨前一项（段首时紧挨后一项），不越过其间未列出的同级项
+     */
+    private List<SortOrder> placeInRequestedOrder(SortParent parent, List<SortOrder> listed,
+                                                  Map<Long, Integer> positionById) {
+        List<SortOrder> current = new ArrayList<>(listed);
+        current.sort(Comparator.comparing(SortOrder::getSortRank).thenComparing(SortOrder::getId));
+        Map<Long, Integer> currentIndex = new HashMap<>();
+        for (int i = 0; i < current.size(); i++) {
+            currentIndex.put(current.get(i).getId(), i);
+        }
+        // 稳定排序，请求位置相同的项保持当前先后
+        List<SortOrder> target = new ArrayList<>(current);
+        target.sort(Comparator.comparingInt(sortOrder -> positionById.get(sortOrder.getId())));
+        boolean[] kept = longestIncreasing(target.stream().mapToInt(sortOrder -> currentIndex.get(sortOrder.getId())).toArray());
+
+        List<SortOrder> changed = new ArrayList<>();
+        String previous = null;
+        int i = 0;
+        while (i < target.size()) {
+            if (kept[i]) {
+                previous = target.get(i).getSortRank();
+                i++;
+                continue;
+            }
+            int end = i;
+            while (end < target.size() && !kept[end]) {
+                end++;
+            }
+            String lo = previous;
+            String hi = end < target.size() ? target.get(end).getSortRank() : null;
+            if (lo != null) {
+                String next = sortOrderRepository.findFirstWithSortRankAbove(parent, lo)
+                        .map(SortOrder::getSortRank)
+                        .orElse(null);
+                if (next != null && (hi == null || next.compareTo(hi) < 0)) {
+                    hi = next;
+                }
+            } else if (hi != null) {
+                lo = sortOrderRepository.findLastWithSortRankBelow(parent, hi)
+                        .map(SortOrder::getSortRank)
+                        .orElse(null);
+            }
+            if (!assignBetween(target, i, end, lo, hi, changed)) {
+                return null;
+            }
+            previous = target.get(end - 1).getSortRank();
+            i = end;
+        }
+        return changed;
+    }
+
+    /**
+     * 二分取键：先给中间一项取 lo 与 hi 的中点，再分别处理两侧，n 项只使键长增加约 log36(n) 位
+     */
+    private static boolean assignBetween(List<SortOrder> items, int from, int to, String lo, String hi,
+                                         List<SortOrder> changed) {
+        if (from >= to) {
+            return true;
+        }
+        if (lo != null && hi != null && lo.compareTo(hi) >= 0) {
+            return false;
+        }
+        String rank = SortRank.between(lo, hi);
+        if (rank.length() > SortRank.MAX_LENGTH) {
+            return false;
+        }
+        int mid = (from + to) >>> 1;
+        items.get(mid).updateRank(rank);
+        changed.add(items.get(mid));
+        return assignBetween(items, from, mid, lo, rank, changed) && assignBetween(items, mid + 1, to, rank, hi, changed);
+    }
+
+    /**
+     * 最长严格递增子序列，返回每个位置是否在其中
+     */
+    private static boolean[] longestIncreasing(int[] values) {
+        int[] tails = new int[values.length];
+        int[] previous = new int[values.length];
+        int length = 0;
+        for (int i = 0; i < values.length; i++) {
+            int lo = 0;
+            int hi = length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (values[tails[mid]] < values[i]) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            previous[i] = lo > 0 ? tails[lo - 1] : -1;
+            tails[lo] = i;
+            if (lo == length) {
+                length++;
+            }
+        }
+        boolean[] kept = new boolean[values.length];
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+            kept[i] = true;
+        }
+        return kept;
+    }
+
+    /**
+     * 压缩排序键后重新读取列出项的当前值
+     */
+    private List<SortOrder> reload(List<SortOrder> sortOrders) {
+        Map<ResourceType, List<Long>> resourceIds = new EnumMap<>(ResourceType.class);
+        for (SortOrder sortOrder : sortOrders) {
+            resourceIds.computeIfAbsent(sortOrder.getResourceType(), type -> new ArrayList<>()).add(sortOrder.getResourceId());
+        }
+        List<SortOrder> reloaded = new ArrayList<>(sortOrders.size());
+        resourceIds.forEach((type, ids) -> reloaded.addAll(sortOrderRepository.findByResourceTypeAndResourceIds(type, ids)));
+        return reloaded;
+    }
+
+    /**
+     * after 与 before 之间的新键；缺省的一侧取相邻记录。两侧键相同或新键超长时返回 null，由调用方压缩后重试
+     */
+    private String rankBetween(SortParent parent, SortOrder after, SortOrder before) {
+        if (after != null && before != null && (after.getSortRank().compareTo(before.getSortRank()) > 0
+                || after.getSortRank().equals(before.getSortRank()) && after.getId() > before.getId())) {
+            throw new IllegalArgumentException("afterResourceId 必须排在 beforeResourceId 之前");
+        }
+        String lo = after != null
+                ? after.getSortRank()
+                : sortOrderRepository.findLastWithSortRankBelow(parent, before.getSortRank())
+                        .map(SortOrder::getSortRank)
+                        .orElse(null);
+        String hi = before != null
+                ? before.getSortRank()
+                : sortOrderRepository.findFirstWithSortRankAbove(parent, after.getSortRank())
+                        .map(SortOrder::getSortRank)
+                        .orElse(null);
+        if (lo != null && hi != null && lo.compareTo(hi) >= 0) {
+            return null;
+        }
+        String rank = SortRank.between(lo, hi);
+        return rank.length() > SortRank.MAX_LENGTH ? null : rank;
+    }
+
+    private SortOrder neighbour(SortOrder item, Long resourceId) {
+        if (resourceId == null) {
+            return null;
+        }
+        if (resourceId.equals(item.getResourceId())) {
+            throw new IllegalArgumentException("相邻项不能是被移动项本身");
+        }
+        SortOrder neighbour = sortOrderRepository
+                .findByResourceTypeAndResourceId(item.getResourceType(), resourceId)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "SortOrder not found for " + item.getResourceType() + ":" + resourceId));
+        if (!neighbour.getParent().equals(item.getParent())) {
+            throw new IllegalArgumentException("相邻项与被移动项不在同一父级下");
+        }
+        return neighbour;
+    }
 }
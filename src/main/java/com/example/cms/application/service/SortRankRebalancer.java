@@ -0,0 +1,49 @@
+package com.example.cms.application.service;
+
+import com.example.cms.domain.model.sortorder.SortParent;
+import com.example.cms.domain.repository.SortOrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 排序键压缩：反复插入同一位置会让排序键逐渐变长，定时找出键长超过 maxLength 的父节点，
+ * 逐个在各自的事务内按当前排列重新分配等间距的短键；排列不变
+ */
+@Component
+@Slf4j
+public class SortRankRebalancer {
+
+    private final SortOrderRepository sortOrderRepository;
+    private final SortOrderService sortOrderService;
+    private final int maxLength;
+
+    public SortRankRebalancer(SortOrderRepository sortOrderRepository,
+                              SortOrderService sortOrderService,
+                              @Value("${cms.sort.rank.max-length:16}") int maxLength) {
+        this.sortOrderRepository = sortOrderRepository;
+        this.sortOrderService = sortOrderService;
+        this.maxLength = maxLength;
+    }
+
+    @Scheduled(fixedDelayString = "${cms.sort.rank.rebalance-interval-ms:600000}")
+    public int rebalance() {
+        List<SortParent> parents = sortOrderRepository.findParentsWithSortRankLongerThan(maxLength);
+        int rewritten = 0;
+        for (SortParent parent : parents) {
+            try {
+                rewritten += sortOrderService.rebalanceRanks(parent);
+            } catch (DataAccessException e) {
+                log.warn("排序键压缩失败，下次重试: {}:{}", parent.getType(), parent.getId(), e);
+            }
+        }
+        if (!parents.isEmpty()) {
+            log.info("排序键压缩完成: {} 个父节点, 改写 {} 条记录", parents.size(), rewritten);
+        }
+        return rewritten;
+    }
+}
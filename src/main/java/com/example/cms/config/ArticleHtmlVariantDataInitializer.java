@@ -0,0 +1,91 @@
+package com.example.cms.config;
+
+import com.example.cms.domain.model.article.CompressedHtml;
+import com.example.cms.domain.model.article.RenderedContent;
+import com.example.cms.domain.repository.ArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+/**
+ * 为历史文章补充预压缩 HTML：启动完成后在后台线程按 ID 升序分块处理，不阻塞启动
+ * 每块只读取渲染结果，压缩在事务外完成，写入以一次 JDBC 批量、每块一个事务提交；
+ * 中途停止时已提交的块不会重做，下次启动从尚无副本的文章继续
+ */
+@Component
+@Slf4j
+public class ArticleHtmlVariantDataInitializer {
+
+    private final ArticleRepository articleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "html-variant-backfill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean stopping;
+
+    public ArticleHtmlVariantDataInitializer(
+            ArticleRepository articleRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${cms.backfill.chunk-size:200}") int chunkSize) {
+        this.articleRepository = articleRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        worker.execute(this::backfill);
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void shutdown() throws InterruptedException {
+        stopping = true;
+        worker.shutdown();
+        if (!worker.awaitTermination(30, TimeUnit.SECONDS)) {
+            worker.shutdownNow();
+        }
+    }
+
+    private void backfill() {
+        long afterId = 0;
+        int total = 0;
+        try {
+            while (!stopping) {
+                Map<Long, RenderedContent> chunk =
+                        articleRepository.findRenderedContentWithoutHtmlVariants(afterId, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                Map<Long, CompressedHtml> variants = new LinkedHashMap<>();
+                chunk.forEach((id, renderedContent) ->
+                        variants.put(id, CompressedHtml.compress(renderedContent, Deflater.DEFAULT_COMPRESSION)));
+                transactionTemplate.executeWithoutResult(status -> articleRepository.saveAllHtmlVariants(variants));
+                for (Long id : chunk.keySet()) {
+                    afterId = id;
+                }
+                total += chunk.size();
+            }
+            if (total > 0) {
+                log.info("为 {} 篇历史文章生成预压缩 HTML", total);
+            }
+        } catch (RuntimeException e) {
+            log.error("生成预压缩 HTML 失败，已处理到文章 {}", afterId, e);
+        }
+    }
+}
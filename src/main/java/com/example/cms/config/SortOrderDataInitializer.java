@@ -1,9 +1,7 @@
 package com.example.cms.config;
 
-import com.example.cms.domain.model.sortorder.ResourceType;
-import com.example.cms.domain.model.sortorder.SortOrder;
+import com.example.cms.application.service.SortOrderService;
 import com.example.cms.domain.repository.CategoryRepository;
-import com.example.cms.domain.repository.SortOrderRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -17,7 +15,7 @@ import java.util.List;
 public class SortOrderDataInitializer implements CommandLineRunner {
 
     private final CategoryRepository categoryRepository;
-    private final SortOrderRepository sortOrderRepository;
+    private final SortOrderService sortOrderService;
 
     @Override
     public void run(String... args) {
@@ -26,19 +24,10 @@ public class SortOrderDataInitializer implements CommandLineRunner {
         List<com.example.cms.domain.model.category.Category> allCategories = categoryRepository.findAll();
 
         for (com.example.cms.domain.model.category.Category category : allCategories) {
-            boolean exists = sortOrderRepository.existsByResourceTypeAndResourceId(
-                    ResourceType.CATEGORY, category.getId());
-
-            if (!exists) {
+            if (sortOrderService.getCategorySortOrder(category.getId()) == null) {
                 log.info("为分类 {} 补充 sort_orders 记录", category.getName());
-                SortOrder sortOrder = SortOrder.builder()
-                        .resourceType(ResourceType.CATEGORY)
-                        .resourceId(category.getId())
-                        .parentType(null) // 简化处理：默认所有已存在分类作为根分类
-                        .parentId(null)
-                        .sortOrder(0)
-                        .build();
-                sortOrderRepository.save(sortOrder);
+                // 经由服务写入，闭包表同步登记；简化处理：默认所有已存在分类作为根分类
+                sortOrderService.initializeCategorySortOrder(category.getId(), null, 0);
             }
         }
 
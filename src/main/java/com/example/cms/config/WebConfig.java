@@ -30,7 +30,7 @@ public class WebConfig implements WebMvcConfigurer {
                         }
 
                         // 对于 API 路径，返回 null（让 Spring MVC 处理）
-                        if (resourcePath.startsWith("api/")) {
+                        if (resourcePath.startsWith("api/") || resourcePath.startsWith("pages/")) {
                             return null;
                         }
 
@@ -1,8 +1,14 @@
 package com.example.cms.config;
 
+import com.example.cms.infrastructure.snapshot.SnapshotPaths;
+import com.example.cms.infrastructure.snapshot.StaticSnapshotFilter;
+import com.example.cms.infrastructure.snapshot.StaticSnapshotPublisher;
 import com.example.cms.security.CurrentUserMethodArgumentResolver;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -25,6 +31,19 @@ public class WebMvcConfig implements WebMvcConfigurer {
         resolvers.add(currentUserMethodArgumentResolver);
     }
 
+    /**
+     * 静态快照 /pages/** 由过滤器直接从磁盘输出（sendfile），排在安全过滤器链之前，不进入 DispatcherServlet
+     */
+    @Bean
+    public FilterRegistrationBean<StaticSnapshotFilter> staticSnapshotFilter(StaticSnapshotPublisher publisher) {
+        FilterRegistrationBean<StaticSnapshotFilter> registration =
+                new FilterRegistrationBean<>(new StaticSnapshotFilter(publisher.getRoot()));
+        registration.addUrlPatterns(SnapshotPaths.URL_PREFIX + "*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.setEnabled(publisher.isEnabled());
+        return registration;
+    }
+
     /**
      * 配置静态资源处理，支持Vue Router的HTML5 History模式
      * 所有非API请求都回退到index.html，由前端路由处理
@@ -43,7 +62,8 @@ public class WebMvcConfig implements WebMvcConfigurer {
                         return requestedResource;
                     }
                     // 如果是API请求或H2控制台，不做回退（返回null让Spring继续处理）
-                    if (resourcePath.startsWith("api/") || resourcePath.startsWith("h2-console/")) {
+                    if (resourcePath.startsWith("api/") || resourcePath.startsWith("h2-console/")
+                            || resourcePath.startsWith("pages/")) {
                         return null;
                     }
                     // 其他所有请求（包括前端路由如/login、/register、/admin等）都回退到index.html
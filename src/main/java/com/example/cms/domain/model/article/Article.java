@@ -10,8 +10,17 @@ import java.time.LocalDateTime;
 public class Article {
      private final Long id;
      private String title;
+     @Getter(AccessLevel.NONE)
      private String content;
+     @Getter(AccessLevel.NONE)
      private RenderedContent renderedContent;
+     /** 按元数据读取时为 false，正文与渲染结果未加载 */
+     private boolean bodyLoaded;
+     /** 正文自读取后是否被修改；未修改时保存只写元数据，不重写正文 */
+     private boolean bodyChanged;
+     private ArticleDigest digest;
+     private RenderStatus renderStatus;
+     private long renderRevision;
      private ArticleStatus status;
      @Getter(AccessLevel.NONE)
      private Long categoryId;
@@ -25,6 +34,10 @@ public class Article {
         this.title = builder.title;
         this.content = builder.content;
         this.renderedContent = builder.renderedContent;
+        this.bodyLoaded = builder.bodyLoaded;
+        this.digest = builder.digest != null ? builder.digest : ArticleDigest.from(builder.renderedContent);
+        this.renderStatus = builder.renderStatus;
+        this.renderRevision = builder.renderRevision;
         this.status = builder.status;
          this.categoryId = builder.categoryId;
          this.publishedAt = builder.publishedAt;
@@ -33,16 +46,62 @@ public class Article {
          this.audit = builder.audit;
     }
 
+    private Article(Article source) {
+        this.id = source.id;
+        this.title = source.title;
+        this.content = source.content;
+        this.renderedContent = source.renderedContent;
+        this.bodyLoaded = source.bodyLoaded;
+        this.bodyChanged = source.bodyChanged;
+        this.digest = source.digest;
+        this.renderStatus = source.renderStatus;
+        this.renderRevision = source.renderRevision;
+        this.status = source.status;
+        this.categoryId = source.categoryId;
+        this.publishedAt = source.publishedAt;
+        this.keywords = source.keywords;
+        this.viewCount = source.viewCount;
+        this.audit = source.audit;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
 
+    /**
+     * 副本，字段引用的都是不可变值，修改副本不影响原对象
+     */
+    public Article copy() {
+        return new Article(this);
+    }
+
     public void updateContent(String content, RenderedContent renderedContent) {
         this.content = content;
         this.renderedContent = renderedContent;
+        this.bodyLoaded = true;
+        this.bodyChanged = true;
+        this.digest = ArticleDigest.from(renderedContent);
+        this.renderStatus = RenderStatus.RENDERED;
+        this.renderRevision++;
+        this.audit = this.audit.markModified();
+    }
+
+    /**
+     * 修改正文但暂不渲染，渲染结果与摘要保持旧值，直到渲染线程按 renderRevision 写回
+     */
+    public void updateContentPendingRender(String content) {
+        requireBody();
+        this.content = content;
+        this.bodyChanged = true;
+        this.renderStatus = RenderStatus.PENDING;
+        this.renderRevision++;
         this.audit = this.audit.markModified();
     }
 
+    public boolean isRendered() {
+        return this.renderStatus == RenderStatus.RENDERED;
+    }
+
     public void publish() {
         if (this.status == ArticleStatus.PUBLISHED) {
             return;
@@ -74,6 +133,16 @@ public class Article {
          this.audit = this.audit.markModified();
      }
 
+    public String getContent() {
+        requireBody();
+        return this.content;
+    }
+
+    public RenderedContent getRenderedContent() {
+        requireBody();
+        return this.renderedContent;
+    }
+
     public Long getCategoryId() {
         return this.categoryId;
     }
@@ -83,11 +152,21 @@ public class Article {
         this.audit = this.audit.markModified();
     }
 
+    private void requireBody() {
+        if (!this.bodyLoaded) {
+            throw new IllegalStateException("文章正文未加载: " + this.id);
+        }
+    }
+
     public static class Builder {
         Long id;
         String title;
         String content;
         RenderedContent renderedContent = RenderedContent.of("");
+        boolean bodyLoaded = true;
+        ArticleDigest digest;
+        RenderStatus renderStatus = RenderStatus.RENDERED;
+        long renderRevision;
          ArticleStatus status = ArticleStatus.DRAFT;
          Long categoryId;
          LocalDateTime publishedAt;
@@ -115,6 +194,31 @@ public class Article {
             return this;
         }
 
+        /**
+         * 只有元数据，不带正文与渲染结果
+         */
+        public Builder withoutBody() {
+            this.content = null;
+            this.renderedContent = null;
+            this.bodyLoaded = false;
+            return this;
+        }
+
+        public Builder digest(ArticleDigest digest) {
+            this.digest = digest;
+            return this;
+        }
+
+        public Builder renderStatus(RenderStatus renderStatus) {
+            this.renderStatus = renderStatus;
+            return this;
+        }
+
+        public Builder renderRevision(long renderRevision) {
+            this.renderRevision = renderRevision;
+            return this;
+        }
+
         public Builder status(ArticleStatus status) {
             this.status = status;
             return this;
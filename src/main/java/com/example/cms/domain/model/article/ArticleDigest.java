@@ -0,0 +1,114 @@
+package com.example.cms.domain.model.article;
+
+import lombok.Value;
+
+/**
+ * 文章正文摘要：纯文本摘录与字数，保存时从渲染结果计算一次，列表查询直接读取
+ */
+@Value
+public class ArticleDigest {
+    public static final int EXCERPT_LENGTH = 200;
+
+    String excerpt;
+    int wordCount;
+
+    public static ArticleDigest of(String excerpt, Integer wordCount) {
+        return new ArticleDigest(excerpt != null ? excerpt : "", wordCount != null ? wordCount : 0);
+    }
+
+    public static ArticleDigest empty() {
+        return new ArticleDigest("", 0);
+    }
+
+    /**
+     * 单次扫描渲染后的 HTML：去标签、解码常见实体、折叠空白，同时统计字数
+     * 中日韩字符每字计一词，其他连续字母数字计一词
+     */
+    public static ArticleDigest from(RenderedContent renderedContent) {
+        String html = renderedContent != null ? renderedContent.getHtml() : null;
+        if (html == null || html.isEmpty()) {
+            return empty();
+        }
+        StringBuilder excerpt = new StringBuilder(EXCERPT_LENGTH);
+        int words = 0;
+        boolean inWord = false;
+        boolean pendingSpace = false;
+        int i = 0;
+        int length = html.length();
+        while (i < length) {
+            char c = html.charAt(i);
+            if (c == '<') {
+                int end = html.indexOf('>', i);
+                i = end < 0 ? length : end + 1;
+                inWord = false;
+                pendingSpace = excerpt.length() > 0;
+                continue;
+            }
+            if (c == '&') {
+                int end = html.indexOf(';', i);
+                if (end > i && end - i <= 8) {
+                    c = decodeEntity(html, i + 1, end);
+                    i = end + 1;
+                } else {
+                    i++;
+                }
+            } else {
+                i++;
+            }
+
+            if (Character.isWhitespace(c)) {
+                inWord = false;
+                pendingSpace = excerpt.length() > 0;
+                continue;
+            }
+            if (isCjk(c)) {
+                words++;
+                inWord = false;
+            } else if (Character.isLetterOrDigit(c)) {
+                if (!inWord) {
+                    words++;
+                    inWord = true;
+                }
+            } else {
+                inWord = false;
+            }
+            if (excerpt.length() < EXCERPT_LENGTH) {
+                if (pendingSpace && excerpt.length() < EXCERPT_LENGTH - 1) {
+                    excerpt.append(' ');
+                }
+                excerpt.append(c);
+            }
+            pendingSpace = false;
+        }
+        return new ArticleDigest(excerpt.toString(), words);
+    }
+
+    private static char decodeEntity(String html, int start, int end) {
+        String name = html.substring(start, end);
+        switch (name) {
+            case "amp":
+                return '&';
+            case "lt":
+                return '<';
+            case "gt":
+                return '>';
+            case "quot":
+                return '"';
+            case "apos":
+            case "#39":
+                return '\'';
+            case "nbsp":
+                return ' ';
+            default:
+                return ' ';
+        }
+    }
+
+    private static boolean isCjk(char c) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL;
+    }
+}
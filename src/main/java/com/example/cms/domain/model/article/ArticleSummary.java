@@ -0,0 +1,23 @@
+package com.example.cms.domain.model.article;
+
+import com.example.cms.domain.shared.Audit;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文章列表读模型，不包含正文与渲染结果
+ */
+@Value
+@Builder
+public class ArticleSummary {
+    Long id;
+    String title;
+    ArticleStatus status;
+    Long categoryId;
+    LocalDateTime publishedAt;
+    String keywords;
+    ArticleDigest digest;
+    Audit audit;
+}
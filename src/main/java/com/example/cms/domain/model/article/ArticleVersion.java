@@ -0,0 +1,14 @@
+package com.example.cms.domain.model.article;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * 条件请求校验所需的文章列：最后修改时间与所属分类，响应中的分类名随分类变化
+ */
+@Value
+public class ArticleVersion {
+    LocalDateTime updatedAt;
+    Long categoryId;
+}
@@ -0,0 +1,62 @@
+package com.example.cms.domain.model.article;
+
+import lombok.Value;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 渲染结果的 gzip 与 deflate（zlib 格式，对应 HTTP 的 deflate 编码）预压缩副本
+ */
+@Value
+public class CompressedHtml {
+    byte[] gzip;
+    byte[] deflate;
+
+    public static CompressedHtml of(byte[] gzip, byte[] deflate) {
+        return new CompressedHtml(gzip, deflate);
+    }
+
+    /**
+     * 以最高压缩级别压缩一次，之后每次请求直接输出字节
+     */
+    public static CompressedHtml compress(RenderedContent renderedContent) {
+        return compress(renderedContent, Deflater.BEST_COMPRESSION);
+    }
+
+    /**
+     * 按指定级别压缩；批量补全历史数据时用默认级别，换取数倍的压缩速度
+     */
+    public static CompressedHtml compress(RenderedContent renderedContent, int level) {
+        String html = renderedContent != null ? renderedContent.getHtml() : "";
+        byte[] raw = html.getBytes(StandardCharsets.UTF_8);
+        try {
+            ByteArrayOutputStream gzip = new ByteArrayOutputStream(raw.length / 3 + 64);
+            try (OutputStream out = new GZIPOutputStream(gzip) {
+                {
+                    def.setLevel(level);
+                }
+            }) {
+                out.write(raw);
+            }
+
+            ByteArrayOutputStream deflate = new ByteArrayOutputStream(raw.length / 3 + 64);
+            Deflater deflater = new Deflater(level);
+            try (OutputStream out = new DeflaterOutputStream(deflate, deflater)) {
+                out.write(raw);
+            } finally {
+                deflater.end();
+            }
+            return new CompressedHtml(gzip.toByteArray(), deflate.toByteArray());
+        } catch (IOException e) {
+            // 内存流不会抛出 IOException
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.cms.domain.model.article;
+
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 已发布文章流的键集分页游标，定位到 (publishedAt, id) 严格之后的位置
+ */
+@Value
+public class FeedCursor {
+    LocalDateTime publishedAt;
+    Long id;
+
+    private FeedCursor(LocalDateTime publishedAt, Long id) {
+        if (publishedAt == null || id == null) {
+            throw new IllegalArgumentException("无效的分页游标");
+        }
+        this.publishedAt = publishedAt;
+        this.id = id;
+    }
+
+    public static FeedCursor of(LocalDateTime publishedAt, Long id) {
+        return new FeedCursor(publishedAt, id);
+    }
+
+    /**
+     * 解析客户端回传的不透明游标，空值表示第一页
+     */
+    public static FeedCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('_');
+            return new FeedCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("无效的分页游标");
+        }
+    }
+
+    public String encode() {
+        String raw = publishedAt + "_" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.cms.domain.model.article;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class FeedPage<T> {
+    List<T> items;
+    FeedCursor nextCursor;
+
+    public static <T> FeedPage<T> of(List<T> items, FeedCursor nextCursor) {
+        return new FeedPage<>(items, nextCursor);
+    }
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.cms.domain.model.article;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 全量重新渲染任务，lastArticleId 是检查点：小于等于它的文章已处理并提交
+ */
+@Getter
+@Builder
+public class RenderJob {
+    private final Long id;
+    private RenderJobStatus status;
+    private long lastArticleId;
+    private final long total;
+    private long processed;
+    private long updated;
+    private long unchanged;
+    private long stale;
+    private long failed;
+    /** 各次运行累计的耗时，重启前后分段相加 */
+    private long elapsedMillis;
+    private String errorMessage;
+    private final LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+
+    public static RenderJob start(long total) {
+        LocalDateTime now = LocalDateTime.now();
+        return RenderJob.builder()
+                .status(RenderJobStatus.RUNNING)
+                .total(total)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    public void advance(long lastArticleId, int updated, int unchanged, int stale, int failed, long elapsedMillis) {
+        this.lastArticleId = lastArticleId;
+        this.processed += updated + unchanged + stale + failed;
+        this.updated += updated;
+        this.unchanged += unchanged;
+        this.stale += stale;
+        this.failed += failed;
+        this.elapsedMillis += elapsedMillis;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.status = RenderJobStatus.COMPLETED;
+        this.updatedAt = LocalDateTime.now();
+        this.finishedAt = this.updatedAt;
+    }
+
+    public void fail(String errorMessage) {
+        this.status = RenderJobStatus.FAILED;
+        this.errorMessage = errorMessage;
+        this.updatedAt = LocalDateTime.now();
+        this.finishedAt = this.updatedAt;
+    }
+
+    public boolean isRunning() {
+        return status == RenderJobStatus.RUNNING;
+    }
+
+    /**
+     * 每秒处理的文章数
+     */
+    public double throughput() {
+        return elapsedMillis == 0 ? 0 : processed * 1000.0 / elapsedMillis;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.cms.domain.model.article;
+
+import lombok.Getter;
+
+@Getter
+public enum RenderJobStatus {
+    RUNNING("进行中"),
+    COMPLETED("已完成"),
+    FAILED("失败");
+
+    private final String description;
+
+    RenderJobStatus(String description) {
+        this.description = description;
+    }
+}
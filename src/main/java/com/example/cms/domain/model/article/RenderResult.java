@@ -0,0 +1,20 @@
+package com.example.cms.domain.model.article;
+
+import lombok.Value;
+
+/**
+ * 一篇文章的渲染结果，按 renderRevision 写回
+ */
+@Value
+public class RenderResult {
+    Long id;
+    long renderRevision;
+    RenderedContent renderedContent;
+    ArticleDigest digest;
+    CompressedHtml variants;
+
+    public static RenderResult of(Long id, long renderRevision, RenderedContent renderedContent) {
+        return new RenderResult(id, renderRevision, renderedContent,
+                ArticleDigest.from(renderedContent), CompressedHtml.compress(renderedContent));
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.cms.domain.model.article;
+
+import lombok.Value;
+
+/**
+ * 重新渲染所需的文章列：正文、当前渲染结果与版本，不含标题、摘要等其他列
+ */
+@Value
+public class RenderSource {
+    Long id;
+    long renderRevision;
+    String content;
+    String renderedHtml;
+    RenderStatus renderStatus;
+}
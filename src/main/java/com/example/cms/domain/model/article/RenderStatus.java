@@ -0,0 +1,16 @@
+package com.example.cms.domain.model.article;
+
+import lombok.Getter;
+
+@Getter
+public enum RenderStatus {
+    RENDERED("已渲染"),
+    PENDING("渲染中"),
+    FAILED("渲染失败");
+
+    private final String description;
+
+    RenderStatus(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.cms.domain.model.category;
+
+import lombok.Value;
+
+/**
+ * 分类树的一行：分类本身与其在 sort_orders 中的父节点与排序键，根分类的 parentId 为 null
+ */
+@Value
+public class CategoryTreeEntry {
+    Long id;
+    String name;
+    String description;
+    Long parentId;
+    String sortRank;
+}
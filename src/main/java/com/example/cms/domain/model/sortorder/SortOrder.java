@@ -12,13 +12,23 @@ public class SortOrder {
     private final Long resourceId;
     private final ResourceType parentType;
     private final Long parentId;
+    /** 创建或压缩排序键时的同级位置，按排序键移动后不再更新；同级排列只以 sortRank 为准 */
     private int sortOrder;
+    private String sortRank;
     private final Audit audit;
 
     public void updateOrder(int newSortOrder) {
         this.sortOrder = newSortOrder;
     }
 
+    public void updateRank(String newSortRank) {
+        this.sortRank = newSortRank;
+    }
+
+    public SortParent getParent() {
+        return new SortParent(parentType, parentId);
+    }
+
     public boolean isRootLevel() {
         return parentType == null || parentId == null;
     }
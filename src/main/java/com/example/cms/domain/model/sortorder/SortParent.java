@@ -0,0 +1,12 @@
+package com.example.cms.domain.model.sortorder;
+
+import lombok.Value;
+
+/**
+ * 同级排序的父节点；type 与 id 均为 null 表示根级
+ */
+@Value
+public class SortParent {
+    ResourceType type;
+    Long id;
+}
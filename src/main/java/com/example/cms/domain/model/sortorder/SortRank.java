@@ -0,0 +1,84 @@
+package com.example.cms.domain.model.sortorder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 同级排序键：由 0-9a-z 组成的变长字符串，按字典序排列（LexoRank 式）
+ * 任意两个键之间总能生成新键，插入或移动只写一行；生成的键不以 0 结尾，保证其前方始终有空间
+ */
+public final class SortRank {
+
+    /** 与 sort_orders.sort_rank 列宽一致 */
+    public static final int MAX_LENGTH = 64;
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    private SortRank() {
+    }
+
+    /**
+     * 生成严格位于 lo 与 hi 之间的键；lo 为 null 表示排在最前，hi 为 null 表示排在最后
+     */
+    public static String between(String lo, String hi) {
+        String low = lo == null ? "" : lo;
+        if (hi != null && low.compareTo(hi) >= 0) {
+            throw new IllegalArgumentException("排序键区间无效: " + lo + " / " + hi);
+        }
+        StringBuilder rank = new StringBuilder();
+        boolean bounded = hi != null;
+        for (int i = 0; ; i++) {
+            int l = i < low.length() ? digit(low.charAt(i)) : 0;
+            int h = bounded && i < hi.length() ? digit(hi.charAt(i)) : BASE;
+            if (l == h) {
+                rank.append(DIGITS.charAt(l));
+                continue;
+            }
+            int mid = (l + h) >>> 1;
+            if (mid > l) {
+                rank.append(DIGITS.charAt(mid));
+                return rank.toString();
+            }
+            // 两位相邻：取 lo 的这一位后已小于 hi，之后只需大于 lo 的剩余部分
+            rank.append(DIGITS.charAt(l));
+            bounded = false;
+        }
+    }
+
+    /**
+     * count 个等宽、等间距的递增键，用于重排后压缩键长；每个间隔至少留出一位字符的空间
+     */
+    public static List<String> spaced(int count) {
+        int width = 1;
+        long space = BASE;
+        while (space < (count + 1L) * BASE) {
+            width++;
+            space *= BASE;
+        }
+        long step = space / (count + 1L);
+        List<String> ranks = new ArrayList<>(count);
+        char[] buffer = new char[width];
+        for (int i = 1; i <= count; i++) {
+            long value = step * i;
+            for (int pos = width - 1; pos >= 0; pos--) {
+                buffer[pos] = DIGITS.charAt((int) (value % BASE));
+                value /= BASE;
+            }
+            int length = width;
+            while (buffer[length - 1] == '0') {
+                length--;
+            }
+            ranks.add(new String(buffer, 0, length));
+        }
+        return ranks;
+    }
+
+    private static int digit(char c) {
+        int digit = DIGITS.indexOf(c);
+        if (digit < 0) {
+            throw new IllegalArgumentException("无效的排序键字符: " + c);
+        }
+        return digit;
+    }
+}
@@ -1,22 +1,130 @@
 package com.example.cms.domain.repository;
 
 import com.example.cms.domain.model.article.Article;
+import com.example.cms.domain.model.article.ArticleDigest;
 import com.example.cms.domain.model.article.ArticleStatus;
+import com.example.cms.domain.model.article.ArticleSummary;
+import com.example.cms.domain.model.article.ArticleVersion;
+import com.example.cms.domain.model.article.CompressedHtml;
+import com.example.cms.domain.model.article.FeedCursor;
+import com.example.cms.domain.model.article.RenderResult;
+import com.example.cms.domain.model.article.RenderSource;
+import com.example.cms.domain.model.article.RenderStatus;
+import com.example.cms.domain.model.article.RenderedContent;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ArticleRepository {
     Article save(Article article);
     Optional<Article> findById(Long id);
+
+    /**
+     * 只读取元数据，不加载正文与渲染结果；用于发布、下线、改分类等不涉及正文的操作
+     */
+    Optional<Article> findMetadataById(Long id);
+
     List<Article> findAll();
+    List<Article> findByIds(List<Long> ids);
     List<Article> findByCategoryId(Long categoryId);
     List<Article> findByStatus(ArticleStatus status);
     List<Article> findByStatusOrderByPublishedAtDesc(ArticleStatus status);
     List<Article> findByCategoryIdAndStatus(Long categoryId, ArticleStatus status);
-    Page<Article> searchByKeyword(String keyword, Long categoryId, Pageable pageable);
+    List<ArticleSummary> findAllSummaries();
+    List<ArticleSummary> findSummariesByIds(List<Long> ids);
+    List<ArticleSummary> findSummariesByStatus(ArticleStatus status);
+    List<ArticleSummary> findSummariesByCategoryIdAndStatus(Long categoryId, ArticleStatus status);
+    /**
+     * 已发布文章按 (published_at, id) 倒序、从 cursor 之后取至多 limit 条；
+     * includeSubcategories 时经闭包表包含 categoryId 的全部子分类
+     */
+    List<ArticleSummary> findPublishedAfter(FeedCursor cursor, Long categoryId, boolean includeSubcategories, int limit);
+    Optional<ArticleVersion> findPublishedVersion(Long id);
+    Optional<Long> findPublishedViewCount(Long id);
+
+    /**
+     * 按关键词检索已发布文章，草稿与下线文章不会出现在结果中
+     */
+    Page<ArticleSummary> searchByKeyword(String keyword, Long categoryId, Pageable pageable);
+
     void deleteById(Long id);
     boolean existsByCategoryId(Long categoryId);
+    boolean existsByCategoryIdIn(List<Long> categoryIds);
+
+    /**
+     * 按 ID 顺序取 afterId 之后摘要为空的文章，只读取渲染结果
+     */
+    Map<Long, RenderedContent> findRenderedContentWithoutDigest(Long afterId, int limit);
+
+    /**
+     * 一次 JDBC 批量写入多篇文章的摘要
+     */
+    void updateDigests(Map<Long, ArticleDigest> digests);
+
+    void saveHtmlVariants(Long id, CompressedHtml html);
+    Optional<CompressedHtml> findHtmlVariants(Long id);
+
+    /**
+     * 按 ID 顺序取 afterId 之后尚无压缩副本的文章，只读取渲染结果
+     */
+    Map<Long, RenderedContent> findRenderedContentWithoutHtmlVariants(Long afterId, int limit);
+
+    List<Long> findIdsByRenderStatus(RenderStatus renderStatus);
+
+    /**
+     * 写回异步渲染结果，仅当 renderRevision 仍是最新时生效；返回是否写入
+     */
+    boolean saveRenderResult(Long id, long renderRevision, RenderedContent renderedContent, ArticleDigest digest);
+
+    /**
+     * 标记渲染失败，仅当 renderRevision 仍是最新时生效
+     */
+    boolean markRenderFailed(Long id, long renderRevision);
+
+    /**
+     * 单条 UPDATE 发布已渲染且未发布的文章，只写状态与时间列；返回是否有行被修改
+     */
+    boolean markPublished(Long id, LocalDateTime publishedAt);
+
+    /**
+     * 单条 UPDATE 下线已发布的文章；返回是否有行被修改
+     */
+    boolean markUnpublished(Long id);
+
+    /**
+     * 单条 UPDATE 修改文章分类；返回文章是否存在
+     */
+    boolean updateCategory(Long id, Long categoryId);
+
+    long count();
+
+    /**
+     * 按 ID 升序读取 afterId 之后的一块文章的渲染所需列
+     */
+    List<RenderSource> findRenderSourcesAfter(Long afterId, int limit);
+
+    /**
+     * 批量写回渲染结果与压缩副本，仅 renderRevision 仍是最新的文章生效；返回实际写入的文章 ID
+     */
+    List<Long> saveRenderResults(List<RenderResult> results);
+
+    /**
+     * 批量插入新文章，ID 预先从序列分配，一次 JDBC 批量执行；返回与入参顺序一致的 ID
+     */
+    List<Long> insertAll(List<Article> articles);
+
+    /**
+     * 批量写入压缩副本，键为文章 ID
+     */
+    void saveAllHtmlVariants(Map<Long, CompressedHtml> variants);
+
+    /**
+     * 按 ID 顺序以只读游标逐条遍历全部文章，处理完即从持久化上下文分离，内存占用与表大小无关；需在事务内调用
+     */
+    void scrollAll(Consumer<Article> action);
 }
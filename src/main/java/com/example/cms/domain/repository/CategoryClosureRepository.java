@@ -0,0 +1,36 @@
+package com.example.cms.domain.repository;
+
+import java.util.List;
+
+/**
+ * 分类层级的闭包索引：保存每对 (祖先, 后代)，含自身，祖先、后代与环检测各一次查询
+ */
+public interface CategoryClosureRepository {
+
+    /**
+     * 登记新分类，parentId 为 null 表示根分类
+     */
+    void insertNode(Long categoryId, Long parentId);
+
+    /**
+     * 把分类连同整棵子树挂到新父分类下，newParentId 为 null 表示移为根分类
+     */
+    void moveSubtree(Long categoryId, Long newParentId);
+
+    void deleteNode(Long categoryId);
+
+    /**
+     * descendantId 是否在 ancestorId 的子树中（含 ancestorId 自身）
+     */
+    boolean isInSubtree(Long ancestorId, Long descendantId);
+
+    /**
+     * 子树中全部分类 ID（含自身），按深度排列
+     */
+    List<Long> findDescendantIds(Long categoryId);
+
+    /**
+     * 从根分类到自身的路径
+     */
+    List<Long> findAncestorIds(Long categoryId);
+}
@@ -1,16 +1,33 @@
 package com.example.cms.domain.repository;
 
 import com.example.cms.domain.model.category.Category;
+import com.example.cms.domain.model.category.CategoryTreeEntry;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CategoryRepository {
     Category save(Category category);
     Optional<Category> findById(Long id);
     List<Category> findAll();
     void deleteById(Long id);
+
+    /**
+     * 一条 DELETE 删除多个分类，不经过持久化上下文
+     */
+    void deleteAllByIds(List<Long> ids);
     boolean existsByName(String name);
     List<Category> findByIds(List<Long> ids);
     boolean existsByCategoryId(Long id);
+
+    /**
+     * 按 ID 顺序以只读游标逐条遍历全部分类，处理完即从持久化上下文分离，内存占用与表大小无关；需在事务内调用
+     */
+    void scrollAll(Consumer<Category> action);
+
+    /**
+     * 一次查询取出全部有排序记录的分类及其父节点、序号，不保证顺序
+     */
+    List<CategoryTreeEntry> findTreeEntries();
 }
@@ -0,0 +1,13 @@
+package com.example.cms.domain.repository;
+
+import com.example.cms.domain.model.article.RenderJob;
+import com.example.cms.domain.model.article.RenderJobStatus;
+
+import java.util.Optional;
+
+public interface RenderJobRepository {
+    RenderJob save(RenderJob job);
+    Optional<RenderJob> findById(Long id);
+    Optional<RenderJob> findLatest();
+    Optional<RenderJob> findFirstByStatus(RenderJobStatus status);
+}
@@ -2,18 +2,78 @@ package com.example.cms.domain.repository;
 
 import com.example.cms.domain.model.sortorder.ResourceType;
 import com.example.cms.domain.model.sortorder.SortOrder;
+import com.example.cms.domain.model.sortorder.SortParent;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface SortOrderRepository {
     SortOrder save(SortOrder sortOrder);
     Optional<SortOrder> findByResourceTypeAndResourceId(ResourceType resourceType, Long resourceId);
-    List<SortOrder> findByParentTypeAndParentIdOrderBySortOrder(ResourceType parentType, Long parentId);
+    List<SortOrder> findByResourceTypeAndResourceIds(ResourceType resourceType, List<Long> resourceIds);
+
+    /**
+     * 读取并以行锁锁定一条排序记录
+     */
+    Optional<SortOrder> findByResourceTypeAndResourceIdForUpdate(ResourceType resourceType, Long resourceId);
+
+    /**
+     * 读取并以行锁锁定同一类型的多条排序记录
+     */
+    List<SortOrder> findByResourceTypeAndResourceIdsForUpdate(ResourceType resourceType, List<Long> resourceIds);
+
+    /**
+     * 同级记录按 sort_rank、ID 排列
+     */
+    List<SortOrder> findByParentOrderBySortRank(SortParent parent);
+
+    /**
+     * 按 sort_rank、ID 排列并以行锁锁定全部同级记录
+     */
+    List<SortOrder> findByParentOrderBySortRankForUpdate(SortParent parent);
+
+    /**
+     * 按 sort_rank、ID 排列时从第 offset 条（从 0 开始）起的至多 limit 条同级记录
+     */
+    List<SortOrder> findByParentOrderBySortRank(SortParent parent, int offset, int limit);
+
+    /**
+     * 排序键小于 sortRank 的同级记录中紧邻的一条
+     */
+    Optional<SortOrder> findLastWithSortRankBelow(SortParent parent, String sortRank);
+
+    /**
+     * 排序键大于 sortRank 的同级记录中紧邻的一条
+     */
+    Optional<SortOrder> findFirstWithSortRankAbove(SortParent parent, String sortRank);
+
+    int countByParent(SortParent parent);
+
+    /**
+     * 存在长度超过 maxLength 的排序键的父节点
+     */
+    List<SortParent> findParentsWithSortRankLongerThan(int maxLength);
     List<SortOrder> findByResourceTypeOrderBySortOrder(ResourceType resourceType);
     List<SortOrder> findAll();
     void deleteByResourceTypeAndResourceId(ResourceType resourceType, Long resourceId);
+    void deleteByResourceTypeAndResourceIds(ResourceType resourceType, List<Long> resourceIds);
     void deleteByParentTypeAndParentId(ResourceType parentType, Long parentId);
     void updateSortOrder(Long id, int newSortOrder);
+
+    /**
+     * 只改写一条记录的排序键，返回实际更新的行数
+     */
+    int updateSortRank(Long id, String sortRank);
+
+    /**
+     * 按 ID 一次批量写入排序键与序号，任一记录已不存在时抛出异常
+     */
+    void updateSortRanks(List<SortOrder> sortOrders);
     boolean existsByResourceTypeAndResourceId(ResourceType resourceType, Long resourceId);
+
+    /**
+     * 按 ID 顺序以只读游标逐条遍历全部排序记录，处理完即从持久化上下文分离，内存占用与表大小无关；需在事务内调用
+     */
+    void scrollAll(Consumer<SortOrder> action);
 }
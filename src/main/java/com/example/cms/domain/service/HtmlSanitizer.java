@@ -0,0 +1,487 @@
+package com.example.cms.domain.service;
+
+import com.vladsch.flexmark.ast.HtmlBlock;
+import com.vladsch.flexmark.ast.HtmlCommentBlock;
+import com.vladsch.flexmark.ast.HtmlInline;
+import com.vladsch.flexmark.ast.HtmlInlineComment;
+import com.vladsch.flexmark.html.AttributeProvider;
+import com.vladsch.flexmark.html.AttributeProviderFactory;
+import com.vladsch.flexmark.html.HtmlWriter;
+import com.vladsch.flexmark.html.IndependentAttributeProviderFactory;
+import com.vladsch.flexmark.html.renderer.AttributablePart;
+import com.vladsch.flexmark.html.renderer.LinkResolverContext;
+import com.vladsch.flexmark.html.renderer.NodeRenderer;
+import com.vladsch.flexmark.html.renderer.NodeRendererContext;
+import com.vladsch.flexmark.html.renderer.NodeRendererFactory;
+import com.vladsch.flexmark.html.renderer.NodeRenderingHandler;
+import com.vladsch.flexmark.util.ast.Node;
+import com.vladsch.flexmark.util.html.Attribute;
+import com.vladsch.flexmark.util.html.MutableAttributes;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 白名单 HTML 清理，在渲染过程中完成：
+ * Markdown 语法生成的元素本身是安全的，只有原样输出的 HTML 块/行内 HTML 和链接地址需要处理。
+ * 原始 HTML 节点渲染时逐字符扫描一遍，只保留白名单内的标签和属性，script/style 等连同内容丢弃，注释丢弃；
+ * 链接和图片地址只允许相对地址及 http/https/mailto/tel/ftp
+ */
+final class HtmlSanitizer {
+
+    private static final Set<String> GLOBAL_ATTRIBUTES = Set.of("class", "id", "title", "lang", "dir", "align");
+
+    private static final Set<String> URL_ATTRIBUTES = Set.of("href", "src", "cite");
+
+    private static final Set<String> SAFE_SCHEMES = Set.of("http", "https", "mailto", "tel", "ftp");
+
+    private static final NameTable<Tag> TAGS;
+    private static final NameTable<String> ATTRIBUTES;
+
+    static {
+        Map<String, Tag> tags = new HashMap<>();
+        for (String name : new String[]{
+                "abbr", "b", "bdi", "bdo", "br", "caption", "center", "code", "dd", "dfn", "div", "dl", "dt",
+                "em", "figcaption", "figure", "h1", "h2", "h3", "h4", "h5", "h6", "hr", "i", "kbd", "mark",
+                "p", "pre", "rp", "rt", "ruby", "s", "samp", "small", "span", "strike", "strong", "sub",
+                "summary", "sup", "table", "tbody", "tfoot", "thead", "tt", "u", "ul", "var", "wbr"}) {
+            tags.put(name, Tag.allowed(name));
+        }
+        tags.put("a", Tag.allowed("a", "href", "name", "target", "rel"));
+        tags.put("img", Tag.allowed("img", "src", "alt", "width", "height", "loading"));
+        tags.put("blockquote", Tag.allowed("blockquote", "cite"));
+        tags.put("q", Tag.allowed("q", "cite"));
+        tags.put("del", Tag.allowed("del", "cite", "datetime"));
+        tags.put("ins", Tag.allowed("ins", "cite", "datetime"));
+        tags.put("time", Tag.allowed("time", "datetime"));
+        tags.put("ol", Tag.allowed("ol", "start", "type", "reversed"));
+        tags.put("li", Tag.allowed("li", "value"));
+        tags.put("col", Tag.allowed("col", "span", "width"));
+        tags.put("colgroup", Tag.allowed("colgroup", "span", "width"));
+        tags.put("tr", Tag.allowed("tr", "valign"));
+        tags.put("td", Tag.allowed("td", "colspan", "rowspan", "valign", "width"));
+        tags.put("th", Tag.allowed("th", "colspan", "rowspan", "valign", "width", "scope"));
+        tags.put("details", Tag.allowed("details", "open"));
+        // 不仅去掉标签，标签内的内容也一并丢弃
+        for (String name : new String[]{
+                "script", "style", "template", "iframe", "object", "noscript", "noembed", "noframes", "xmp",
+                "title", "textarea", "select", "frameset"}) {
+            tags.put(name, Tag.dropContent(name));
+        }
+        TAGS = new NameTable<>(tags);
+
+        Map<String, String> attributes = new HashMap<>();
+        GLOBAL_ATTRIBUTES.forEach(name -> attributes.put(name, name));
+        tags.values().forEach(tag -> tag.attributes.forEach(name -> attributes.put(name, name)));
+        ATTRIBUTES = new NameTable<>(attributes);
+    }
+
+    private HtmlSanitizer() {
+    }
+
+    static NodeRendererFactory nodeRendererFactory() {
+        return options -> new RawHtmlRenderer();
+    }
+
+    static AttributeProviderFactory attributeProviderFactory() {
+        return new IndependentAttributeProviderFactory() {
+            @Override
+            public AttributeProvider apply(LinkResolverContext context) {
+                return HtmlSanitizer::filterLinkAttributes;
+            }
+        };
+    }
+
+    /**
+     * 清理一段原始 HTML 并追加到 out，换行统一为 \n
+     */
+    static void sanitize(String html, StringBuilder out) {
+        int length = html.length();
+        int i = 0;
+        while (i < length) {
+            char c = html.charAt(i);
+            if (c == '<') {
+                int end = tag(html, i, out);
+                if (end < 0) {
+                    out.append("&lt;");
+                    i++;
+                } else {
+                    i = end;
+                }
+            } else if (c == '\r') {
+                out.append('\n');
+                i += i + 1 < length && html.charAt(i + 1) == '\n' ? 2 : 1;
+            } else {
+                int next = i + 1;
+                while (next < length && html.charAt(next) != '<' && html.charAt(next) != '\r') {
+                    next++;
+                }
+                out.append(html, i, next);
+                i = next;
+            }
+        }
+    }
+
+    /**
+     * 相对地址或白名单协议；协议部分按浏览器的方式忽略空白与控制字符，并解码字符引用
+     * 协议部分出现字符引用时，只有解码后构成白名单协议才放行；无法解码或解码后成为相对地址的一律视为不安全，
+     * 不依赖与浏览器在边界情况下解码结果一致
+     */
+    static boolean isSafeUrl(CharSequence url) {
+        return isSafeUrl(url, 0, url.length());
+    }
+
+    private static boolean isSafeUrl(CharSequence url, int start, int end) {
+        StringBuilder scheme = new StringBuilder(8);
+        boolean referenced = false;
+        int i = start;
+        while (i < end) {
+            int c = url.charAt(i++);
+            if (c == '&') {
+                int[] decoded = decodeReference(url, i, end);
+                if (decoded == null) {
+                    return false;
+                }
+                c = decoded[0];
+                i = decoded[1];
+                referenced = true;
+            }
+            if (c <= ' ') {
+                continue;
+            }
+            if (c == ':') {
+                return SAFE_SCHEMES.contains(scheme.toString());
+            }
+            if (!(Character.isLetterOrDigit(c) && c < 0x80) && c != '+' && c != '-' && c != '.') {
+                return !referenced;
+            }
+            scheme.append(Character.toLowerCase((char) c));
+        }
+        return !referenced;
+    }
+
+    /**
+     * 从 '<' 开始解析一个标签、注释或声明，处理后返回其后的位置；不构成完整标签时返回 -1
+     */
+    private static int tag(String html, int start, StringBuilder out) {
+        int length = html.length();
+        int i = start + 1;
+        if (i >= length) {
+            return -1;
+        }
+        char c = html.charAt(i);
+        if (c == '!' || c == '?') {
+            // 注释、声明、CDATA、处理指令一律丢弃
+            String close = html.startsWith("!--", i) ? "-->" : html.startsWith("![CDATA[", i) ? "]]>" : ">";
+            int end = html.indexOf(close, i + 1);
+            return end < 0 ? length : end + close.length();
+        }
+        boolean closing = c == '/';
+        if (closing) {
+            i++;
+        }
+        int nameStart = i;
+        if (i >= length || !isAsciiLetter(html.charAt(i))) {
+            return -1;
+        }
+        while (i < length && (isAsciiLetter(html.charAt(i)) || isDigit(html.charAt(i)) || html.charAt(i) == '-')) {
+            i++;
+        }
+        Tag tag = TAGS.get(html, nameStart, i);
+        boolean allowed = tag != null && !tag.dropContent;
+
+        if (closing) {
+            int end = html.indexOf('>', i);
+            if (end < 0) {
+                return -1;
+            }
+            if (allowed) {
+                out.append("</").append(tag.name).append('>');
+            }
+            return end + 1;
+        }
+
+        int mark = out.length();
+        if (allowed) {
+            out.append('<').append(tag.name);
+        }
+        while (true) {
+            while (i < length && isSpace(html.charAt(i))) {
+                i++;
+            }
+            if (i >= length) {
+                out.setLength(mark);
+                return -1;
+            }
+            c = html.charAt(i);
+            if (c == '>' || (c == '/' && i + 1 < length && html.charAt(i + 1) == '>')) {
+                break;
+            }
+            if (c == '/') {
+                i++;
+                continue;
+            }
+            int attributeStart = i;
+            while (i < length && !isSpace(html.charAt(i)) && "/>=".indexOf(html.charAt(i)) < 0) {
+                i++;
+            }
+            int attributeEnd = i;
+            while (i < length && isSpace(html.charAt(i))) {
+                i++;
+            }
+            int valueStart = -1;
+            int valueEnd = -1;
+            if (i < length && html.charAt(i) == '=') {
+                i++;
+                while (i < length && isSpace(html.charAt(i))) {
+                    i++;
+                }
+                if (i < length && (html.charAt(i) == '"' || html.charAt(i) == '\'')) {
+                    valueStart = i + 1;
+                    valueEnd = html.indexOf(html.charAt(i), valueStart);
+                    if (valueEnd < 0) {
+                        out.setLength(mark);
+                        return -1;
+                    }
+                    i = valueEnd + 1;
+                } else {
+                    valueStart = i;
+                    while (i < length && !isSpace(html.charAt(i)) && html.charAt(i) != '>') {
+                        i++;
+                    }
+                    valueEnd = i;
+                }
+            }
+            if (allowed) {
+                appendAttribute(html, attributeStart, attributeEnd, valueStart, valueEnd, tag, out);
+            }
+        }
+
+        boolean selfClosing = html.charAt(i) == '/';
+        int end = i + (selfClosing ? 2 : 1);
+        if (allowed) {
+            out.append(selfClosing ? " />" : ">");
+            return end;
+        }
+        if (tag != null && !selfClosing) {
+            return skipContent(html, tag.name, end);
+        }
+        return end;
+    }
+
+    /**
+     * 跳过 script 等元素的内容直到对应的结束标签之后，找不到结束标签时丢弃余下全部内容
+     */
+    private static int skipContent(String html, String name, int from) {
+        int i = from;
+        while ((i = html.indexOf("</", i)) >= 0) {
+            if (html.regionMatches(true, i + 2, name, 0, name.length())) {
+                int end = html.indexOf('>', i);
+                return end < 0 ? html.length() : end + 1;
+            }
+            i += 2;
+        }
+        return html.length();
+    }
+
+    private static void appendAttribute(String html, int nameStart, int nameEnd, int valueStart, int valueEnd,
+                                        Tag tag, StringBuilder out) {
+        String name = ATTRIBUTES.get(html, nameStart, nameEnd);
+        if (name == null || !(GLOBAL_ATTRIBUTES.contains(name) || tag.attributes.contains(name))) {
+            return;
+        }
+        if (valueStart < 0) {
+            out.append(' ').append(name);
+            return;
+        }
+        if (URL_ATTRIBUTES.contains(name) && !isSafeUrl(html, valueStart, valueEnd)) {
+            return;
+        }
+        out.append(' ').append(name).append("=\"");
+        for (int i = valueStart; i < valueEnd; i++) {
+            char c = html.charAt(i);
+            switch (c) {
+                case '"' -> out.append("&quot;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                default -> out.append(c);
+            }
+        }
+        out.append('"');
+    }
+
+    private static void filterLinkAttributes(Node node, AttributablePart part, MutableAttributes attributes) {
+        if (part != AttributablePart.LINK) {
+            return;
+        }
+        for (String name : URL_ATTRIBUTES) {
+            Attribute attribute = attributes.get(name);
+            if (attribute != null && !isSafeUrl(attribute.getValue())) {
+                attributes.remove(name);
+            }
+        }
+    }
+
+    /**
+     * 解码 '&' 之后的字符引用，返回 {字符, 结束位置}；不是可识别的引用时返回 null
+     * 数字引用按 HTML5 规则：位数不限，结尾的 ';' 可省略，超出范围的码点按 U+FFFD 处理；
+     * 命名引用只识别 &amp;colon; &amp;Tab; &amp;NewLine;
+     */
+    private static int[] decodeReference(CharSequence text, int start, int end) {
+        if (start < end && text.charAt(start) == '#') {
+            return decodeNumericReference(text, start + 1, end);
+        }
+        int semicolon = -1;
+        for (int i = start; i < end && i - start <= 10; i++) {
+            if (text.charAt(i) == ';') {
+                semicolon = i;
+                break;
+            }
+        }
+        if (semicolon < 0) {
+            return null;
+        }
+        return switch (text.subSequence(start, semicolon).toString()) {
+            case "colon" -> new int[]{':', semicolon + 1};
+            case "Tab" -> new int[]{'\t', semicolon + 1};
+            case "NewLine" -> new int[]{'\n', semicolon + 1};
+            default -> null;
+        };
+    }
+
+    private static int[] decodeNumericReference(CharSequence text, int start, int end) {
+        int radix = 10;
+        int i = start;
+        if (i < end && (text.charAt(i) == 'x' || text.charAt(i) == 'X')) {
+            radix = 16;
+            i++;
+        }
+        int digitsStart = i;
+        long value = 0;
+        while (i < end && Character.digit(text.charAt(i), radix) >= 0 && text.charAt(i) < 0x80) {
+            // 超出 Unicode 范围后不再累加，避免溢出
+            value = Math.min(value * radix + Character.digit(text.charAt(i), radix), Character.MAX_CODE_POINT + 1L);
+            i++;
+        }
+        if (i == digitsStart) {
+            return null;
+        }
+        if (i < end && text.charAt(i) == ';') {
+            i++;
+        }
+        int codePoint = value == 0 || value > Character.MAX_CODE_POINT
+                || (value >= Character.MIN_SURROGATE && value <= Character.MAX_SURROGATE) ? 0xFFFD : (int) value;
+        return new int[]{codePoint, i};
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+    }
+
+    /**
+     * 替换核心渲染器对原始 HTML 节点的处理，输出格式（前后换行）与核心渲染器一致
+     */
+    private static final class RawHtmlRenderer implements NodeRenderer {
+
+        private final StringBuilder buffer = new StringBuilder();
+
+        @Override
+        public Set<NodeRenderingHandler<?>> getNodeRenderingHandlers() {
+            return Set.of(
+                    new NodeRenderingHandler<>(HtmlBlock.class, this::render),
+                    new NodeRenderingHandler<>(HtmlInline.class, this::render),
+                    new NodeRenderingHandler<>(HtmlCommentBlock.class, (node, context, html) -> { }),
+                    new NodeRenderingHandler<>(HtmlInlineComment.class, (node, context, html) -> { }));
+        }
+
+        private void render(HtmlBlock node, NodeRendererContext context, HtmlWriter html) {
+            html.line();
+            html.rawPre(sanitized(node.getContentChars()));
+            html.lineIf(context.getHtmlOptions().htmlBlockCloseTagEol);
+        }
+
+        private void render(HtmlInline node, NodeRendererContext context, HtmlWriter html) {
+            html.rawPre(sanitized(node.getChars()));
+        }
+
+        private CharSequence sanitized(CharSequence raw) {
+            buffer.setLength(0);
+            sanitize(raw.toString(), buffer);
+            return buffer;
+        }
+    }
+
+    private static final class Tag {
+        final String name;
+        final Set<String> attributes;
+        final boolean dropContent;
+
+        private Tag(String name, Set<String> attributes, boolean dropContent) {
+            this.name = name;
+            this.attributes = attributes;
+            this.dropContent = dropContent;
+        }
+
+        static Tag allowed(String name, String... attributes) {
+            return new Tag(name, Set.of(attributes), false);
+        }
+
+        static Tag dropContent(String name) {
+            return new Tag(name, Set.of(), true);
+        }
+    }
+
+    /**
+     * 名称到值的只读开放寻址表，直接按源文本区间忽略大小写查找，不为每个标签/属性名创建字符串
+     */
+    private static final class NameTable<T> {
+        private final String[] names;
+        private final Object[] values;
+        private final int mask;
+
+        NameTable(Map<String, T> entries) {
+            int capacity = Integer.highestOneBit(entries.size() * 4 - 1) << 1;
+            this.names = new String[capacity];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+            entries.forEach((name, value) -> {
+                int slot = hash(name, 0, name.length()) & mask;
+                while (names[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                names[slot] = name;
+                values[slot] = value;
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        T get(String text, int start, int end) {
+            int length = end - start;
+            for (int slot = hash(text, start, end) & mask; names[slot] != null; slot = (slot + 1) & mask) {
+                String name = names[slot];
+                if (name.length() == length && text.regionMatches(true, start, name, 0, length)) {
+                    return (T) values[slot];
+                }
+            }
+            return null;
+        }
+
+        private static int hash(String text, int start, int end) {
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                char c = text.charAt(i);
+                hash = 31 * hash + (c >= 'A' && c <= 'Z' ? c + 32 : c);
+            }
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.example.cms.domain.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 把 Markdown 源文本切成可独立渲染的顶层块组，各块组分别渲染后顺序拼接与整篇渲染结果一致
+ * 只在空行之后、顶格且不是列表项的行前切分，围栏代码块与可跨空行的 HTML 块（注释、script、pre 等）内部不切分；
+ * 链接引用定义是全文范围的，收集后按标签附加到引用了它的块组
+ * 遇到无法安全切分的结构（非顶层的引用定义、未闭合的围栏或 HTML 块）返回 null，由调用方整篇渲染
+ */
+final class MarkdownBlocks {
+
+    /** 块组最小长度，小于该值不切分，避免过多的小缓存条目 */
+    private static final int MIN_CHUNK = 4 * 1024;
+    /** 块组最大长度，超过后在下一个安全位置强制切分 */
+    private static final int MAX_CHUNK = 32 * 1024;
+    /** 达到最小长度后，由块内容哈希决定是否在此切分，切分点只取决于局部内容，编辑不会让后续块组整体错位 */
+    private static final int CUT_MASK = 0x3;
+
+    private static final Pattern TOP_LEVEL_DEFINITION = Pattern.compile("^ {0,3}\\[((?:[^\\]\\\\]|\\\\.)+)\\]:.*");
+    private static final Pattern ANY_DEFINITION =
+            Pattern.compile("^[ \\t>]*(?:[-+*]\\s+|\\d{1,9}[.)]\\s+)?\\[(?:[^\\]\\\\]|\\\\.)+\\]:.*");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern LIST_MARKER = Pattern.compile("^(?:[-+*]|\\d{1,9}[.)])(?:[ \\t].*)?$");
+    private static final Pattern RAW_HTML_START = Pattern.compile("^ {0,3}<(script|pre|style|textarea)(?:[\\s>].*)?$",
+            Pattern.CASE_INSENSITIVE);
+
+    private final List<String> chunks;
+    private final List<Definition> definitions;
+
+    private MarkdownBlocks(List<String> chunks, List<Definition> definitions) {
+        this.chunks = chunks;
+        this.definitions = definitions;
+    }
+
+    List<String> chunks() {
+        return chunks;
+    }
+
+    /**
+     * 块组可能用到的链接引用定义，没有时为空串
+     * 按规范化后的标签做包含判断，只会多带、不会漏带；多带的定义不产生输出
+     */
+    String definitionsFor(String chunk) {
+        if (definitions.isEmpty() || chunk.indexOf('[') < 0) {
+            return "";
+        }
+        String text = normalize(chunk);
+        StringBuilder relevant = new StringBuilder();
+        for (Definition definition : definitions) {
+            if (definition.label == null || text.contains(definition.label)) {
+                relevant.append(definition.line).append('\n');
+            }
+        }
+        return relevant.toString();
+    }
+
+    static MarkdownBlocks split(String markdown) {
+        List<String> chunks = new ArrayList<>();
+        List<Definition> definitions = new ArrayList<>();
+        int chunkStart = 0;
+        int blockStart = 0;
+        boolean afterBlank = false;
+        boolean inFence = false;
+        char fenceChar = 0;
+        int fenceLength = 0;
+        boolean previousWasDefinition = false;
+        String htmlBlockEnd = null;
+
+        int length = markdown.length();
+        int lineStart = 0;
+        while (lineStart < length) {
+            int lineEnd = markdown.indexOf('\n', lineStart);
+            int next = lineEnd < 0 ? length : lineEnd + 1;
+            String line = markdown.substring(lineStart, lineEnd < 0 ? length : lineEnd);
+            if (line.endsWith("\r")) {
+                line = line.substring(0, line.length() - 1);
+            }
+
+            if (htmlBlockEnd != null) {
+                if (containsIgnoreCase(line, htmlBlockEnd)) {
+                    htmlBlockEnd = null;
+                }
+                lineStart = next;
+                continue;
+            }
+            if (inFence) {
+                if (closesFence(line, fenceChar, fenceLength)) {
+                    inFence = false;
+                }
+                lineStart = next;
+                continue;
+            }
+            if (line.isBlank()) {
+                afterBlank = true;
+                previousWasDefinition = false;
+                lineStart = next;
+                continue;
+            }
+
+            int indent = indent(line);
+            if (previousWasDefinition && indent > 0) {
+                // 引用定义的标题写在下一行，收集时无法保证完整
+                return null;
+            }
+            if (afterBlank && indent == 0 && !LIST_MARKER.matcher(line).matches()) {
+                // blockStart 之前是上一个完整的顶层块
+                String block = markdown.substring(blockStart, lineStart);
+                int size = lineStart - chunkStart;
+                if (size >= MAX_CHUNK || (size >= MIN_CHUNK && (mix(block.hashCode()) & CUT_MASK) == 0)) {
+                    chunks.add(markdown.substring(chunkStart, lineStart));
+                    chunkStart = lineStart;
+                }
+                blockStart = lineStart;
+            }
+            afterBlank = false;
+            previousWasDefinition = false;
+
+            if (indent < 4) {
+                String trimmed = line.stripLeading();
+                int fence = fenceLength(trimmed);
+                if (fence > 0) {
+                    inFence = true;
+                    fenceChar = trimmed.charAt(0);
+                    fenceLength = fence;
+                    lineStart = next;
+                    continue;
+                }
+                String end = htmlBlockEnd(line, trimmed);
+                if (end != null) {
+                    // 结束标记可能就在开始行上
+                    int from = trimmed.indexOf(end.equals(">") ? "!" : "<") + 1;
+                    if (!containsIgnoreCase(trimmed.substring(from), end)) {
+                        htmlBlockEnd = end;
+                    }
+                    lineStart = next;
+                    continue;
+                }
+            }
+            if (line.indexOf("]:") > 0) {
+                Matcher definition = TOP_LEVEL_DEFINITION.matcher(line);
+                if (definition.matches()) {
+                    definitions.add(new Definition(label(definition.group(1)), line));
+                    previousWasDefinition = true;
+                } else if (ANY_DEFINITION.matcher(line).matches()) {
+                    return null;
+                }
+            }
+            lineStart = next;
+        }
+        if (inFence || htmlBlockEnd != null) {
+            return null;
+        }
+        if (chunkStart < length) {
+            chunks.add(markdown.substring(chunkStart));
+        }
+        return new MarkdownBlocks(chunks, definitions);
+    }
+
+    /**
+     * 规范化后的标签；含非 ASCII 字符时大小写折叠规则与 String.toLowerCase 不完全一致，返回 null 表示总是附加
+     */
+    private static String label(String raw) {
+        for (int i = 0; i < raw.length(); i++) {
+            if (raw.charAt(i) > 0x7f) {
+                return null;
+            }
+        }
+        return normalize(raw).strip();
+    }
+
+    private static String normalize(String text) {
+        return WHITESPACE.matcher(text.toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+
+    /**
+     * CommonMark 第 1~5 类 HTML 块的结束标记，这几类块可以跨空行；不是这几类时返回 null
+     */
+    private static String htmlBlockEnd(String line, String trimmed) {
+        if (!trimmed.startsWith("<")) {
+            return null;
+        }
+        Matcher raw = RAW_HTML_START.matcher(line);
+        if (raw.matches()) {
+            return "</" + raw.group(1).toLowerCase(Locale.ROOT) + ">";
+        }
+        if (trimmed.startsWith("<!--")) {
+            return "-->";
+        }
+        if (trimmed.startsWith("<?")) {
+            return "?>";
+        }
+        if (trimmed.startsWith("<![CDATA[")) {
+            return "]]>";
+        }
+        if (trimmed.length() > 2 && trimmed.charAt(1) == '!' && Character.isLetter(trimmed.charAt(2))) {
+            return ">";
+        }
+        return null;
+    }
+
+    private static boolean containsIgnoreCase(String text, String marker) {
+        return text.toLowerCase(Locale.ROOT).contains(marker);
+    }
+
+    private static int indent(String line) {
+        int columns = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == ' ') {
+                columns++;
+            } else if (c == '\t') {
+                columns += 4 - (columns % 4);
+            } else {
+                break;
+            }
+        }
+        return columns;
+    }
+
+    private static int fenceLength(String trimmed) {
+        if (trimmed.isEmpty()) {
+            return 0;
+        }
+        char c = trimmed.charAt(0);
+        if (c != '`' && c != '~') {
+            return 0;
+        }
+        int count = 0;
+        while (count < trimmed.length() && trimmed.charAt(count) == c) {
+            count++;
+        }
+        if (count < 3) {
+            return 0;
+        }
+        // 反引号围栏的信息串不能再含反引号
+        if (c == '`' && trimmed.indexOf('`', count) >= 0) {
+            return 0;
+        }
+        return count;
+    }
+
+    private static boolean closesFence(String line, char fenceChar, int fenceLength) {
+        if (indent(line) >= 4) {
+            return false;
+        }
+        String trimmed = line.strip();
+        int count = 0;
+        while (count < trimmed.length() && trimmed.charAt(count) == fenceChar) {
+            count++;
+        }
+        return count >= fenceLength && count == trimmed.length();
+    }
+
+    private static final class Definition {
+        final String label;
+        final String line;
+
+        Definition(String label, String line) {
+            this.label = label;
+            this.line = line;
+        }
+    }
+
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x45d9f3b;
+        return hash ^ (hash >>> 16);
+    }
+}
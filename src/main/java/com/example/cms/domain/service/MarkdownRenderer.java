@@ -1,40 +1,118 @@
 package com.example.cms.domain.service;
 
 import com.example.cms.domain.model.article.RenderedContent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.vladsch.flexmark.html.HtmlRenderer;
 import com.vladsch.flexmark.parser.Parser;
 import com.vladsch.flexmark.util.ast.Document;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Markdown 渲染，两级缓存均以内容的 SHA-256 为键：
+ * 整篇相同直接命中文档缓存；否则按顶层块组切分，只解析渲染内容变化过的块组，再按顺序拼接
+ */
 @Service
 public class MarkdownRenderer {
 
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
     private final Parser parser;
     private final HtmlRenderer renderer;
+    private final Cache<String, String> documents;
+    private final Cache<String, String> blocks;
 
-    public MarkdownRenderer() {
+    public MarkdownRenderer(
+            @Value("${cms.cache.render-documents.max-weight:33554432}") long documentMaxWeight,
+            @Value("${cms.cache.render-blocks.max-weight:33554432}") long blockMaxWeight) {
         this.parser = Parser.builder().build();
-        this.renderer = HtmlRenderer.builder().build();
+        this.renderer = HtmlRenderer.builder()
+                .nodeRendererFactory(HtmlSanitizer.nodeRendererFactory())
+                .attributeProviderFactory(HtmlSanitizer.attributeProviderFactory())
+                .build();
+        this.documents = Caffeine.newBuilder()
+                .maximumWeight(documentMaxWeight)
+                .weigher((String key, String html) -> weigh(html))
+                .recordStats()
+                .build();
+        this.blocks = Caffeine.newBuilder()
+                .maximumWeight(blockMaxWeight)
+                .weigher((String key, String html) -> weigh(html))
+                .recordStats()
+                .build();
     }
 
     public RenderedContent render(String markdown) {
         if (markdown == null || markdown.isBlank()) {
             return RenderedContent.of("");
         }
+        return RenderedContent.of(documents.get(hash(markdown), key -> renderBlocks(markdown)));
+    }
 
-        Document document = parser.parse(markdown);
-        String html = renderer.render(document);
+    /**
+     * 不经过缓存整篇渲染，用于全量重新渲染，避免一次性遍历所有文章挤掉缓存中的热点条目
+     */
+    public RenderedContent renderUncached(String markdown) {
+        if (markdown == null || markdown.isBlank()) {
+            return RenderedContent.of("");
+        }
+        return RenderedContent.of(renderDocument(markdown));
+    }
+
+    public CacheStats documentStats() {
+        return documents.stats();
+    }
 
-        // 基本的 HTML 清理
-        html = sanitizeHtml(html);
+    public CacheStats blockStats() {
+        return blocks.stats();
+    }
 
-        return RenderedContent.of(html);
+    public long documentSize() {
+        return documents.estimatedSize();
+    }
+
+    public long blockSize() {
+        return blocks.estimatedSize();
+    }
+
+    private String renderBlocks(String markdown) {
+        MarkdownBlocks split = MarkdownBlocks.split(markdown);
+        if (split == null || split.chunks().size() <= 1) {
+            return renderDocument(markdown);
+        }
+        StringBuilder html = new StringBuilder(markdown.length() + (markdown.length() >> 2));
+        for (String chunk : split.chunks()) {
+            // 引用定义作用于全文，附加到用到它的块组，定义本身不产生输出；定义变化时这些块组的键随之变化
+            String definitions = split.definitionsFor(chunk);
+            String source = definitions.isEmpty() ? chunk : chunk + "\n\n" + definitions;
+            html.append(blocks.get(hash(source), key -> renderDocument(source)));
+        }
+        return html.toString();
+    }
+
+    private String renderDocument(String markdown) {
+        Document document = parser.parse(markdown);
+        // 原始 HTML 与链接地址在渲染过程中按白名单清理，见 HtmlSanitizer
+        return renderer.render(document);
+    }
+
+    private static String hash(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 不可用", e);
+        }
     }
 
-    private String sanitizeHtml(String html) {
-        // 移除潜在危险的标签和属性（简化版）
-        html = html.replaceAll("<script[^>]*>.*?</script>", "");
-        html = html.replaceAll("on\\w+\\s*=\\s*[\"'][^\"']*[\"']", "");
-        return html;
+    private static int weigh(String html) {
+        return ENTRY_OVERHEAD_BYTES + html.length() * 2;
     }
 }
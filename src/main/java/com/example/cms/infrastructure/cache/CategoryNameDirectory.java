@@ -0,0 +1,90 @@
+package com.example.cms.infrastructure.cache;
+
+import com.example.cms.application.event.CategoryChangedEvent;
+import com.example.cms.domain.model.category.Category;
+import com.example.cms.domain.repository.CategoryRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 分类 ID → 名称的进程内目录，供文章响应组装时解析分类名，不访问数据库
+ * 同时记录分类的最后修改时间，文章响应含分类名，条件请求的校验器需要随分类改名变化
+ * 启动时全量加载，分类写操作事务提交后以写时复制方式整体替换
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryNameDirectory {
+
+    private final CategoryRepository categoryRepository;
+
+    private volatile ImmutableLongMap<Entry> entries = ImmutableLongMap.empty();
+
+    @PostConstruct
+    public void load() {
+        List<Category> categories = categoryRepository.findAll();
+        ImmutableLongMap.Builder<Entry> builder = ImmutableLongMap.builder(categories.size());
+        for (Category category : categories) {
+            builder.put(category.getId(), Entry.of(category));
+        }
+        entries = builder.build();
+        log.info("分类名称目录已加载: {} 个分类", categories.size());
+    }
+
+    public String nameOf(Long categoryId, String defaultName) {
+        if (categoryId == null) {
+            return defaultName;
+        }
+        Entry entry = entries.get(categoryId);
+        return entry != null ? entry.getName() : defaultName;
+    }
+
+    /**
+     * 分类最后修改时间，分类不存在时返回 null
+     */
+    public LocalDateTime updatedAtOf(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        Entry entry = entries.get(categoryId);
+        return entry != null ? entry.getUpdatedAt() : null;
+    }
+
+    public boolean contains(Long categoryId) {
+        return categoryId != null && entries.containsKey(categoryId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onCategoryChanged(CategoryChangedEvent event) {
+        if (event.getChangeType() == CategoryChangedEvent.ChangeType.MOVED
+                || event.getChangeType() == CategoryChangedEvent.ChangeType.REORDERED) {
+            return;
+        }
+        ImmutableLongMap<Entry> current = entries;
+        if (event.getChangeType() == CategoryChangedEvent.ChangeType.DELETED) {
+            entries = current.without(event.getCategoryIds().stream().mapToLong(Long::longValue).toArray());
+            return;
+        }
+        for (Category category : categoryRepository.findByIds(event.getCategoryIds())) {
+            current = current.with(category.getId(), Entry.of(category));
+        }
+        entries = current;
+    }
+
+    @Value
+    private static class Entry {
+        String name;
+        LocalDateTime updatedAt;
+
+        static Entry of(Category category) {
+            return new Entry(category.getName(), category.getAudit().getUpdatedAt());
+        }
+    }
+}
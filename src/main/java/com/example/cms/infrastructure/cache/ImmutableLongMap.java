@@ -0,0 +1,156 @@
+package com.example.cms.infrastructure.cache;
+
+import java.util.function.BiConsumer;
+
+/**
+ * 以 long 为键的不可变开放寻址哈希表，键不装箱
+ * 写操作返回新实例（写时复制），适合读多写少、通过 volatile 引用整体替换的场景；键必须为正数
+ */
+public final class ImmutableLongMap<V> {
+
+    private static final ImmutableLongMap<?> EMPTY = new ImmutableLongMap<>(new long[4], new Object[4], 0);
+    private static final long EMPTY_KEY = 0L;
+
+    private final long[] keys;
+    private final Object[] values;
+    private final int size;
+
+    private ImmutableLongMap(long[] keys, Object[] values, int size) {
+        this.keys = keys;
+        this.values = values;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <V> ImmutableLongMap<V> empty() {
+        return (ImmutableLongMap<V>) EMPTY;
+    }
+
+    public static <V> Builder<V> builder(int expectedSize) {
+        return new Builder<>(expectedSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int slot = find(keys, key);
+        return slot >= 0 ? (V) values[slot] : null;
+    }
+
+    public V getOrDefault(long key, V defaultValue) {
+        V value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    public boolean containsKey(long key) {
+        return find(keys, key) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public ImmutableLongMap<V> with(long key, V value) {
+        Builder<V> builder = new Builder<>(size + 1);
+        forEach(builder::put);
+        builder.put(key, value);
+        return builder.build();
+    }
+
+    public ImmutableLongMap<V> without(long... removed) {
+        Builder<V> builder = new Builder<>(size);
+        forEach((key, value) -> {
+            for (long r : removed) {
+                if (r == key) {
+                    return;
+                }
+            }
+            builder.put(key, value);
+        });
+        return builder.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<Long, V> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY_KEY) {
+                action.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    private static int find(long[] keys, long key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY_KEY) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    public static final class Builder<V> {
+        private long[] keys;
+        private Object[] values;
+        private int size;
+
+        private Builder(int expectedSize) {
+            int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+        }
+
+        public Builder<V> put(long key, V value) {
+            if (key <= EMPTY_KEY) {
+                throw new IllegalArgumentException("键必须为正数: " + key);
+            }
+            if ((size + 1) * 2 > keys.length) {
+                rehash(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            int slot = hash(key) & mask;
+            while (keys[slot] != EMPTY_KEY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == EMPTY_KEY) {
+                keys[slot] = key;
+                size++;
+            }
+            values[slot] = value;
+            return this;
+        }
+
+        public ImmutableLongMap<V> build() {
+            ImmutableLongMap<V> map = new ImmutableLongMap<>(keys, values, size);
+            // 构建后 Builder 不再持有数组，避免已发布实例被继续修改
+            keys = new long[4];
+            values = new Object[4];
+            size = 0;
+            return map;
+        }
+
+        private void rehash(int capacity) {
+            long[] oldKeys = keys;
+            Object[] oldValues = values;
+            keys = new long[capacity];
+            values = new Object[capacity];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY_KEY) {
+                    put(oldKeys[i], castValue(oldValues[i]));
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private V castValue(Object value) {
+            return (V) value;
+        }
+    }
+}
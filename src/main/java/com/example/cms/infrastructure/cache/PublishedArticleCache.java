@@ -0,0 +1,178 @@
+package com.example.cms.infrastructure.cache;
+
+import com.example.cms.application.event.ArticleChangedEvent;
+import com.example.cms.domain.model.article.Article;
+import com.example.cms.domain.model.article.ArticleStatus;
+import com.example.cms.domain.model.article.ArticleSummary;
+import com.example.cms.domain.model.article.CompressedHtml;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 已发布文章（详情与列表摘要）的进程内读穿缓存
+ * 按估算字节数限制容量（Caffeine W-TinyLFU 淘汰 + 写入后过期），文章写操作事务提交后失效
+ * Article 是可变领域对象，缓存实例不外泄，每次读取返回副本；
+ * 列表整体失效时递增代数，失效前开始加载的列表带着旧代数写入，读取时识别为过期并丢弃
+ */
+@Component
+@Slf4j
+public class PublishedArticleCache {
+
+    /** 全站已发布列表在 feeds 中的键，分类 ID 从 1 开始，不会冲突 */
+    private static final Long ALL_CATEGORIES = 0L;
+    /** 每个缓存条目的固定开销估算（对象头、引用、审计字段等） */
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final Cache<Long, Article> articles;
+    private final Cache<Long, Feed> feeds;
+    private final AtomicLong feedGeneration = new AtomicLong();
+    private final Cache<Long, CompressedHtml> htmlVariants;
+
+    public PublishedArticleCache(
+            @Value("${cms.cache.published-articles.max-weight:67108864}") long articleMaxWeight,
+            @Value("${cms.cache.published-feeds.max-weight:16777216}") long feedMaxWeight,
+            @Value("${cms.cache.published-html.max-weight:33554432}") long htmlMaxWeight,
+            @Value("${cms.cache.published-articles.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.articles = Caffeine.newBuilder()
+                .maximumWeight(articleMaxWeight)
+                .weigher((Long id, Article article) -> weigh(article))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.feeds = Caffeine.newBuilder()
+                .maximumWeight(feedMaxWeight)
+                .weigher((Long key, Feed feed) -> weigh(feed.articles))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.htmlVariants = Caffeine.newBuilder()
+                .maximumWeight(htmlMaxWeight)
+                .weigher((Long id, CompressedHtml html) -> ENTRY_OVERHEAD_BYTES + html.getGzip().length + html.getDeflate().length)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 读取已发布文章，未命中时通过 loader 加载；草稿或不存在的文章不进入缓存
+     */
+    public Optional<Article> getPublished(Long id, Function<Long, Optional<Article>> loader) {
+        return Optional.ofNullable(articles.get(id, key -> loader.apply(key)
+                .filter(article -> article.getStatus() == ArticleStatus.PUBLISHED)
+                .map(Article::copy)
+                .orElse(null)))
+                .map(Article::copy);
+    }
+
+    /**
+     * 仅查看缓存，不触发加载
+     */
+    public Optional<Article> peekPublished(Long id) {
+        return Optional.ofNullable(articles.getIfPresent(id)).map(Article::copy);
+    }
+
+    /**
+     * 读取已发布文章列表的首页，categoryId 为 null 表示全站列表
+     */
+    public List<ArticleSummary> getFeed(Long categoryId, Supplier<List<ArticleSummary>> loader) {
+        Long key = categoryId != null ? categoryId : ALL_CATEGORIES;
+        Feed feed = loadFeed(key, loader);
+        if (feed.generation != feedGeneration.get()) {
+            // 与失效并发的加载写入了旧数据，丢弃后重新加载一次
+            feeds.asMap().remove(key, feed);
+            feed = loadFeed(key, loader);
+        }
+        return feed.articles;
+    }
+
+    private Feed loadFeed(Long key, Supplier<List<ArticleSummary>> loader) {
+        long generation = feedGeneration.get();
+        return feeds.get(key, k -> new Feed(generation, List.copyOf(loader.get())));
+    }
+
+    /**
+     * 读取已发布文章的预压缩 HTML，调用方需先确认文章已发布
+     */
+    public CompressedHtml getHtmlVariants(Long id, Function<Long, CompressedHtml> loader) {
+        return htmlVariants.get(id, loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        articles.invalidateAll(event.getArticleIds());
+        htmlVariants.invalidateAll(event.getArticleIds());
+        // 任一文章变化都可能影响列表成员与顺序，列表键数量很少，直接整体失效；先递增代数，进行中的加载结果随之作废
+        feedGeneration.incrementAndGet();
+        feeds.invalidateAll();
+        log.debug("文章缓存失效: {} {}", event.getChangeType(), event.getArticleIds());
+    }
+
+    public CacheStats articleStats() {
+        return articles.stats();
+    }
+
+    public CacheStats feedStats() {
+        return feeds.stats();
+    }
+
+    public CacheStats htmlStats() {
+        return htmlVariants.stats();
+    }
+
+    public long htmlSize() {
+        return htmlVariants.estimatedSize();
+    }
+
+    public long articleSize() {
+        return articles.estimatedSize();
+    }
+
+    public long feedSize() {
+        return feeds.estimatedSize();
+    }
+
+    private static int weigh(Article article) {
+        long chars = length(article.getTitle())
+                + length(article.getContent())
+                + length(article.getRenderedContent().getHtml())
+                + length(article.getKeywords());
+        // Java 字符串按 UTF-16 估算，每字符 2 字节
+        return (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD_BYTES + chars * 2);
+    }
+
+    private static int weigh(List<ArticleSummary> list) {
+        long total = ENTRY_OVERHEAD_BYTES;
+        for (ArticleSummary summary : list) {
+            total += ENTRY_OVERHEAD_BYTES + (length(summary.getTitle())
+                    + length(summary.getKeywords())
+                    + length(summary.getDigest().getExcerpt())) * 2;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, total);
+    }
+
+    private static long length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    private static final class Feed {
+        final long generation;
+        final List<ArticleSummary> articles;
+
+        Feed(long generation, List<ArticleSummary> articles) {
+            this.generation = generation;
+            this.articles = articles;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.cms.infrastructure.persistence;
+
+import com.example.cms.infrastructure.stats.Latency;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import lombok.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hikari 连接池指标：获取连接的等待时间、连接被借出的占用时间、获取超时次数，以及池的实时状态
+ * 连接池在首次取连接时才启动，因此在数据源初始化前挂上 MetricsTrackerFactory
+ */
+@Component
+public class ConnectionPoolMetrics implements BeanPostProcessor {
+
+    private final Latency acquire = new Latency();
+    private final Latency usage = new Latency();
+    private final LongAdder timeouts = new LongAdder();
+
+    private volatile PoolStats poolStats;
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource && dataSource.getMetricsTrackerFactory() == null) {
+            dataSource.setMetricsTrackerFactory((poolName, stats) -> {
+                poolStats = stats;
+                return new Tracker();
+            });
+        }
+        return bean;
+    }
+
+    public Stats stats() {
+        PoolStats current = poolStats;
+        return new Stats(
+                current == null ? 0 : current.getActiveConnections(),
+                current == null ? 0 : current.getIdleConnections(),
+                current == null ? 0 : current.getTotalConnections(),
+                current == null ? 0 : current.getPendingThreads(),
+                current == null ? 0 : current.getMaxConnections(),
+                usage.count(), timeouts.sum(),
+                acquire.averageMillis(), acquire.maxMillis(),
+                usage.averageMillis(), usage.maxMillis());
+    }
+
+    private final class Tracker implements IMetricsTracker {
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquire.record(elapsedAcquiredNanos);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usage.record(elapsedBorrowedMillis * 1_000_000L);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+        }
+    }
+
+    @Value
+    public static class Stats {
+        int active;
+        int idle;
+        int total;
+        int pendingThreads;
+        int maxPoolSize;
+        long borrowed;
+        long timeouts;
+        double acquireAvgMillis;
+        double acquireMaxMillis;
+        double holdAvgMillis;
+        double holdMaxMillis;
+    }
+}
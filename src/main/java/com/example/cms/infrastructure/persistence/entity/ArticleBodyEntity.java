@@ -0,0 +1,50 @@
+package com.example.cms.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 文章正文与渲染结果，与 articles 共用主键；只在需要正文时通过显式连接读取
+ */
+@Entity
+@Table(name = "article_bodies")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArticleBodyEntity {
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+
+    /** 只用于派生主键并让 Hibernate 先插入 articles 再插入正文 */
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "article_id")
+    @Getter(AccessLevel.NONE)
+    private ArticleEntity article;
+
+    @Lob
+    @Column(nullable = false)
+    private String content;
+
+    @Lob
+    @Column(name = "rendered_content", nullable = false)
+    private String renderedContent;
+
+    public static ArticleBodyEntity of(ArticleEntity article, String content, String renderedContent) {
+        ArticleBodyEntity entity = new ArticleBodyEntity();
+        entity.article = article;
+        entity.content = content;
+        entity.renderedContent = renderedContent;
+        return entity;
+    }
+}
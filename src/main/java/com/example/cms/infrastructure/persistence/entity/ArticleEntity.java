@@ -5,8 +5,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.Lob;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -19,21 +19,15 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ArticleEntity {
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "articles_seq")
+    @SequenceGenerator(name = "articles_seq", sequenceName = "articles_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
     private String title;
 
-    @Lob
-    @Column(nullable = false)
-    private String content;
-
-    @Lob
-    @Column(nullable = false)
-    private String renderedContent;
-
     @Column(nullable = false, length = 20)
     private String status;
 
@@ -46,37 +40,45 @@ public class ArticleEntity {
     @Column(name = "keywords", length = 500)
     private String keywords;
 
+    @Column(name = "excerpt", length = 300)
+    private String excerpt;
+
+    @Column(name = "word_count")
+    private Integer wordCount;
+
+    @Column(name = "render_status", nullable = false, length = 20)
+    private String renderStatus;
+
+    @Column(name = "render_revision", nullable = false)
+    private Long renderRevision;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
-    @Column(name = "view_count")
+    /** 只由 ArticleViewCounter 批量累加，实体保存时不覆盖 */
+    @Column(name = "view_count", insertable = false, updatable = false)
     private Long viewCount;
 
-    public static ArticleEntity of(String title, String content, String renderedContent,
-                                    String status, Long categoryId, String keywords) {
+    public static ArticleEntity of(String title, String status, Long categoryId, String keywords,
+                                    String excerpt, Integer wordCount,
+                                    String renderStatus, Long renderRevision) {
         ArticleEntity entity = new ArticleEntity();
         entity.title = title;
-        entity.content = content;
-        entity.renderedContent = renderedContent;
         entity.status = status;
         entity.categoryId = categoryId;
         entity.keywords = keywords;
+        entity.excerpt = excerpt;
+        entity.wordCount = wordCount;
+        entity.renderStatus = renderStatus;
+        entity.renderRevision = renderRevision;
         entity.createdAt = LocalDateTime.now();
         entity.updatedAt = LocalDateTime.now();
         return entity;
     }
 
-    public void update(String title, String content, String renderedContent, Long categoryId) {
-        this.title = title;
-        this.content = content;
-        this.renderedContent = renderedContent;
-        this.categoryId = categoryId;
-        this.updatedAt = LocalDateTime.now();
-    }
-
     public void publish() {
         this.status = "PUBLISHED";
         this.publishedAt = LocalDateTime.now();
@@ -89,17 +91,21 @@ public class ArticleEntity {
         this.updatedAt = LocalDateTime.now();
     }
 
-    public static ArticleEntity forUpdate(Long id, String title, String content, String renderedContent,
-                                          String status, Long categoryId, LocalDateTime createdAt,
-                                          LocalDateTime publishedAt, String keywords) {
+    public static ArticleEntity forUpdate(Long id, String title, String status,
+                                          Long categoryId, LocalDateTime createdAt,
+                                          LocalDateTime publishedAt, String keywords,
+                                          String excerpt, Integer wordCount,
+                                          String renderStatus, Long renderRevision) {
         ArticleEntity entity = new ArticleEntity();
         entity.id = id;
         entity.title = title;
-        entity.content = content;
-        entity.renderedContent = renderedContent;
         entity.status = status;
         entity.categoryId = categoryId;
         entity.keywords = keywords;
+        entity.excerpt = excerpt;
+        entity.wordCount = wordCount;
+        entity.renderStatus = renderStatus;
+        entity.renderRevision = renderRevision;
         entity.createdAt = createdAt;
         entity.updatedAt = LocalDateTime.now();
         entity.publishedAt = publishedAt;
@@ -0,0 +1,42 @@
+package com.example.cms.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "article_html_variants")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArticleHtmlVariantEntity {
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+
+    @Lob
+    @Column(name = "gzip_html", nullable = false)
+    private byte[] gzipHtml;
+
+    @Lob
+    @Column(name = "deflate_html", nullable = false)
+    private byte[] deflateHtml;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public static ArticleHtmlVariantEntity of(Long articleId, byte[] gzipHtml, byte[] deflateHtml) {
+        ArticleHtmlVariantEntity entity = new ArticleHtmlVariantEntity();
+        entity.articleId = articleId;
+        entity.gzipHtml = gzipHtml;
+        entity.deflateHtml = deflateHtml;
+        entity.updatedAt = LocalDateTime.now();
+        return entity;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.cms.infrastructure.persistence.entity;
+
+import com.example.cms.domain.model.article.RenderJob;
+import com.example.cms.domain.model.article.RenderJobStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "render_jobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RenderJobEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RenderJobStatus status;
+
+    @Column(name = "last_article_id", nullable = false)
+    private long lastArticleId;
+
+    @Column(nullable = false)
+    private long total;
+
+    @Column(nullable = false)
+    private long processed;
+
+    @Column(nullable = false)
+    private long updated;
+
+    @Column(nullable = false)
+    private long unchanged;
+
+    @Column(nullable = false)
+    private long stale;
+
+    @Column(nullable = false)
+    private long failed;
+
+    @Column(name = "elapsed_millis", nullable = false)
+    private long elapsedMillis;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public RenderJob toDomainModel() {
+        return RenderJob.builder()
+                .id(id)
+                .status(status)
+                .lastArticleId(lastArticleId)
+                .total(total)
+                .processed(processed)
+                .updated(updated)
+                .unchanged(unchanged)
+                .stale(stale)
+                .failed(failed)
+                .elapsedMillis(elapsedMillis)
+                .errorMessage(errorMessage)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+
+    public static RenderJobEntity fromDomainModel(RenderJob job) {
+        RenderJobEntity entity = new RenderJobEntity();
+        entity.id = job.getId();
+        entity.status = job.getStatus();
+        entity.lastArticleId = job.getLastArticleId();
+        entity.total = job.getTotal();
+        entity.processed = job.getProcessed();
+        entity.updated = job.getUpdated();
+        entity.unchanged = job.getUnchanged();
+        entity.stale = job.getStale();
+        entity.failed = job.getFailed();
+        entity.elapsedMillis = job.getElapsedMillis();
+        entity.errorMessage = job.getErrorMessage();
+        entity.createdAt = job.getCreatedAt();
+        entity.updatedAt = job.getUpdatedAt();
+        entity.finishedAt = job.getFinishedAt();
+        return entity;
+    }
+}
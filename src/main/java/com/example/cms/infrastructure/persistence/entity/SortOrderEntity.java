@@ -10,6 +10,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -24,7 +25,8 @@ import java.time.LocalDateTime;
 public class SortOrderEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sort_orders_seq")
+    @SequenceGenerator(name = "sort_orders_seq", sequenceName = "sort_orders_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -44,6 +46,9 @@ public class SortOrderEntity {
     @Column(name = "sort_order", nullable = false)
     private Integer sortOrder;
 
+    @Column(name = "sort_rank", nullable = false, length = 64)
+    private String sortRank;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -58,6 +63,7 @@ public class SortOrderEntity {
                 .parentType(parentType)
                 .parentId(parentId)
                 .sortOrder(sortOrder != null ? sortOrder : 0)
+                .sortRank(sortRank)
                 .build();
     }
 
@@ -69,6 +75,7 @@ public class SortOrderEntity {
         entity.parentType = sortOrderModel.getParentType();
         entity.parentId = sortOrderModel.getParentId();
         entity.sortOrder = sortOrderModel.getSortOrder();
+        entity.sortRank = sortOrderModel.getSortRank();
         entity.createdAt = LocalDateTime.now();
         entity.updatedAt = LocalDateTime.now();
         return entity;
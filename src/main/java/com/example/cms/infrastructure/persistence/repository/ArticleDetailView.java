@@ -0,0 +1,24 @@
+package com.example.cms.infrastructure.persistence.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 完整文章投影：元数据与 article_bodies 中的正文、渲染结果在同一条连接查询中取出
+ */
+public interface ArticleDetailView {
+    Long getId();
+    String getTitle();
+    String getContent();
+    String getRenderedContent();
+    String getStatus();
+    Long getCategoryId();
+    LocalDateTime getPublishedAt();
+    String getKeywords();
+    String getExcerpt();
+    Integer getWordCount();
+    String getRenderStatus();
+    Long getRenderRevision();
+    Long getViewCount();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,12 @@
+package com.example.cms.infrastructure.persistence.repository;
+
+/**
+ * 重新渲染投影，只选取正文、渲染结果与渲染版本
+ */
+public interface ArticleRenderSourceView {
+    Long getId();
+    Long getRenderRevision();
+    String getContent();
+    String getRenderedContent();
+    String getRenderStatus();
+}
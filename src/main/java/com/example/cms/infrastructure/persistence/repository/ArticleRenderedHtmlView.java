@@ -0,0 +1,9 @@
+package com.example.cms.infrastructure.persistence.repository;
+
+/**
+ * 数据补全投影，只选取文章 ID 与渲染结果，不读取 Markdown 原文
+ */
+public interface ArticleRenderedHtmlView {
+    Long getId();
+    String getRenderedContent();
+}
@@ -1,74 +1,216 @@
 package com.example.cms.infrastructure.persistence.repository;
 
 import com.example.cms.domain.model.article.Article;
+import com.example.cms.domain.model.article.ArticleDigest;
 import com.example.cms.domain.model.article.ArticleStatus;
+import com.example.cms.domain.model.article.ArticleSummary;
+import com.example.cms.domain.model.article.ArticleVersion;
+import com.example.cms.domain.model.article.CompressedHtml;
+import com.example.cms.domain.model.article.FeedCursor;
+import com.example.cms.domain.model.article.RenderResult;
+import com.example.cms.domain.model.article.RenderSource;
+import com.example.cms.domain.model.article.RenderStatus;
+import com.example.cms.domain.model.article.RenderedContent;
 import com.example.cms.domain.repository.ArticleRepository;
+import com.example.cms.infrastructure.persistence.entity.ArticleBodyEntity;
 import com.example.cms.infrastructure.persistence.entity.ArticleEntity;
+import com.example.cms.infrastructure.persistence.entity.ArticleHtmlVariantEntity;
+import com.example.cms.infrastructure.search.ArticleSearchIndex;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-@org.springframework.stereotype.Repository
+@Repository
 @RequiredArgsConstructor
 public class ArticleRepositoryImpl implements ArticleRepository {
 
+    private static final String RENDER_RESULT_SQL = "UPDATE articles SET excerpt = ?, " +
+            "word_count = ?, render_status = 'RENDERED', updated_at = ? WHERE id = ? AND render_revision = ?";
+    private static final String DIGEST_SQL = "UPDATE articles SET excerpt = ?, word_count = ? WHERE id = ?";
+    private static final String RENDERED_BODY_SQL = "UPDATE article_bodies SET rendered_content = ? WHERE article_id = ?";
+    private static final String INSERT_SQL = "INSERT INTO articles (id, title, status, " +
+            "category_id, keywords, excerpt, word_count, render_status, render_revision, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_BODY_SQL = "INSERT INTO article_bodies (article_id, content, rendered_content) " +
+            "VALUES (?, ?, ?)";
+    private static final String UPDATE_HTML_VARIANTS_SQL = "UPDATE article_html_variants " +
+            "SET gzip_html = ?, deflate_html = ?, updated_at = ? WHERE article_id = ?";
+    private static final String INSERT_HTML_VARIANTS_SQL = "INSERT INTO article_html_variants " +
+            "(article_id, gzip_html, deflate_html, updated_at) VALUES (?, ?, ?, ?)";
+
     private final SpringDataArticleRepository springDataRepository;
+    private final SpringDataArticleBodyRepository bodyRepository;
+    private final SpringDataArticleHtmlVariantRepository htmlVariantRepository;
+    private final ArticleSearchIndex searchIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
 
+    /**
+     * 元数据经实体保存；新文章插入正文，已有文章只在正文被修改时按主键更新 article_bodies
+     */
     @Override
     public Article save(Article article) {
-        ArticleEntity entity = toEntity(article);
-        ArticleEntity saved = springDataRepository.save(entity);
-        return toDomain(saved);
+        ArticleEntity saved = springDataRepository.save(toEntity(article));
+        if (!article.isBodyLoaded()) {
+            return toMetadata(saved);
+        }
+        if (article.getId() == null) {
+            bodyRepository.save(ArticleBodyEntity.of(saved, article.getContent(), article.getRenderedContent().getHtml()));
+        } else if (article.isBodyChanged()) {
+            bodyRepository.updateBody(saved.getId(), article.getContent(), article.getRenderedContent().getHtml());
+        }
+        return toDomain(saved, article.getContent(), article.getRenderedContent());
     }
 
     @Override
     public Optional<Article> findById(Long id) {
-        return springDataRepository.findById(id)
+        return springDataRepository.findDetailById(id)
                 .map(this::toDomain);
     }
 
+    @Override
+    public Optional<Article> findMetadataById(Long id) {
+        return springDataRepository.findById(id)
+                .map(this::toMetadata);
+    }
+
     @Override
     public List<Article> findAll() {
-        return springDataRepository.findAll().stream()
+        return springDataRepository.findAllDetails().stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Article> findByIds(List<Long> ids) {
+        return springDataRepository.findDetailsByIds(ids).stream()
                 .map(this::toDomain)
                 .toList();
     }
 
     @Override
     public List<Article> findByCategoryId(Long categoryId) {
-        return springDataRepository.findByCategoryId(categoryId).stream()
+        return springDataRepository.findDetailsByCategoryId(categoryId).stream()
                 .map(this::toDomain)
                 .toList();
     }
 
     @Override
     public List<Article> findByStatus(ArticleStatus status) {
-        return springDataRepository.findByStatus(status.name()).stream()
+        return springDataRepository.findDetailsByStatus(status.name()).stream()
                 .map(this::toDomain)
                 .toList();
     }
 
     @Override
     public List<Article> findByStatusOrderByPublishedAtDesc(ArticleStatus status) {
-        return springDataRepository.findByStatusOrderByPublishedAtDesc(status.name()).stream()
+        return springDataRepository.findDetailsByStatusOrderByPublishedAtDesc(status.name()).stream()
                 .map(this::toDomain)
                 .toList();
     }
 
     @Override
     public List<Article> findByCategoryIdAndStatus(Long categoryId, ArticleStatus status) {
-        return springDataRepository.findByCategoryIdAndStatus(categoryId, status.name()).stream()
+        return springDataRepository.findDetailsByCategoryIdAndStatus(categoryId, status.name()).stream()
                 .map(this::toDomain)
                 .toList();
     }
 
     @Override
-    public Page<Article> searchByKeyword(String keyword, Long categoryId, Pageable pageable) {
-        return springDataRepository.searchByKeyword(keyword, categoryId, pageable)
-                .map(this::toDomain);
+    public List<ArticleSummary> findAllSummaries() {
+        return springDataRepository.findAllSummaries().stream()
+                .map(this::toSummary)
+                .toList();
+    }
+
+    @Override
+    public List<ArticleSummary> findSummariesByIds(List<Long> ids) {
+        return springDataRepository.findSummariesByIds(ids).stream()
+                .map(this::toSummary)
+                .toList();
+    }
+
+    @Override
+    public List<ArticleSummary> findSummariesByStatus(ArticleStatus status) {
+        return springDataRepository.findSummariesByStatus(status.name()).stream()
+                .map(this::toSummary)
+                .toList();
+    }
+
+    @Override
+    public List<ArticleSummary> findSummariesByCategoryIdAndStatus(Long categoryId, ArticleStatus status) {
+        return springDataRepository.findSummariesByCategoryIdAndStatus(categoryId, status.name()).stream()
+                .map(this::toSummary)
+                .toList();
+    }
+
+    @Override
+    public List<ArticleSummary> findPublishedAfter(FeedCursor cursor, Long categoryId, boolean includeSubcategories,
+                                                   int limit) {
+        String status = ArticleStatus.PUBLISHED.name();
+        PageRequest page = PageRequest.ofSize(limit);
+        List<ArticleSummaryView> rows;
+        if (categoryId == null) {
+            rows = cursor == null
+                    ? springDataRepository.findFeedFirstPage(status, page)
+                    : springDataRepository.findFeedAfter(status, cursor.getPublishedAt(), cursor.getId(), page);
+        } else if (includeSubcategories) {
+            rows = cursor == null
+                    ? springDataRepository.findSubtreeFeedFirstPage(categoryId, status, page)
+                    : springDataRepository.findSubtreeFeedAfter(
+                            categoryId, status, cursor.getPublishedAt(), cursor.getId(), page);
+        } else {
+            rows = cursor == null
+                    ? springDataRepository.findCategoryFeedFirstPage(categoryId, status, page)
+                    : springDataRepository.findCategoryFeedAfter(
+                            categoryId, status, cursor.getPublishedAt(), cursor.getId(), page);
+        }
+        return rows.stream()
+                .map(this::toSummary)
+                .toList();
+    }
+
+    @Override
+    public Optional<ArticleVersion> findPublishedVersion(Long id) {
+        return springDataRepository.findVersionByIdAndStatus(id, ArticleStatus.PUBLISHED.name())
+                .map(view -> new ArticleVersion(view.getUpdatedAt(), view.getCategoryId()));
+    }
+
+    @Override
+    public Optional<Long> findPublishedViewCount(Long id) {
+        return springDataRepository.findViewCountByIdAndStatus(id, ArticleStatus.PUBLISHED.name());
+    }
+
+    @Override
+    public Page<ArticleSummary> searchByKeyword(String keyword, Long categoryId, Pageable pageable) {
+        if (keyword != null && !keyword.isBlank() && searchIndex.isReady() && pageable.isPaged()) {
+            return searchIndexed(keyword, categoryId, pageable);
+        }
+        return springDataRepository.searchByKeyword(keyword, categoryId, ArticleStatus.PUBLISHED.name(), pageable)
+                .map(this::toSummary);
     }
 
     @Override
@@ -81,19 +223,326 @@ public class ArticleRepositoryImpl implements ArticleRepository {
         return springDataRepository.existsByCategoryId(categoryId);
     }
 
-    private Article toDomain(ArticleEntity entity) {
+    @Override
+    public boolean existsByCategoryIdIn(List<Long> categoryIds) {
+        return springDataRepository.existsByCategoryIdIn(categoryIds);
+    }
+
+    @Override
+    public Map<Long, RenderedContent> findRenderedContentWithoutDigest(Long afterId, int limit) {
+        Map<Long, RenderedContent> result = new LinkedHashMap<>();
+        springDataRepository.findRenderedContentWithoutDigest(afterId, PageRequest.ofSize(limit))
+                .forEach(view -> result.put(view.getId(), RenderedContent.of(view.getRenderedContent())));
+        return result;
+    }
+
+    @Override
+    public void updateDigests(Map<Long, ArticleDigest> digests) {
+        if (digests.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DIGEST_SQL, digests.entrySet(), digests.size(), (ps, entry) -> {
+            ps.setString(1, entry.getValue().getExcerpt());
+            ps.setInt(2, entry.getValue().getWordCount());
+            ps.setLong(3, entry.getKey());
+        });
+    }
+
+    @Override
+    public void saveHtmlVariants(Long id, CompressedHtml html) {
+        htmlVariantRepository.save(ArticleHtmlVariantEntity.of(id, html.getGzip(), html.getDeflate()));
+    }
+
+    @Override
+    public Optional<CompressedHtml> findHtmlVariants(Long id) {
+        return htmlVariantRepository.findById(id)
+                .map(entity -> CompressedHtml.of(entity.getGzipHtml(), entity.getDeflateHtml()));
+    }
+
+    @Override
+    public Map<Long, RenderedContent> findRenderedContentWithoutHtmlVariants(Long afterId, int limit) {
+        Map<Long, RenderedContent> result = new LinkedHashMap<>();
+        htmlVariantRepository.findRenderedContentWithoutVariants(afterId, PageRequest.ofSize(limit))
+                .forEach(view -> result.put(view.getId(), RenderedContent.of(view.getRenderedContent())));
+        return result;
+    }
+
+    @Override
+    public List<Long> findIdsByRenderStatus(RenderStatus renderStatus) {
+        return springDataRepository.findIdsByRenderStatus(renderStatus.name());
+    }
+
+    @Override
+    public boolean saveRenderResult(Long id, long renderRevision, RenderedContent renderedContent, ArticleDigest digest) {
+        if (springDataRepository.updateRenderResult(id, renderRevision,
+                digest.getExcerpt(), digest.getWordCount(), LocalDateTime.now()) == 0) {
+            return false;
+        }
+        bodyRepository.updateRenderedContent(id, renderedContent.getHtml());
+        return true;
+    }
+
+    @Override
+    public boolean markRenderFailed(Long id, long renderRevision) {
+        return springDataRepository.updateRenderStatus(id, renderRevision, RenderStatus.FAILED.name()) > 0;
+    }
+
+    @Override
+    public boolean markPublished(Long id, LocalDateTime publishedAt) {
+        return springDataRepository.markPublished(id, publishedAt) > 0;
+    }
+
+    @Override
+    public boolean markUnpublished(Long id) {
+        return springDataRepository.markUnpublished(id, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    public boolean updateCategory(Long id, Long categoryId) {
+        return springDataRepository.updateCategory(id, categoryId, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    public long count() {
+        return springDataRepository.count();
+    }
+
+    @Override
+    public List<RenderSource> findRenderSourcesAfter(Long afterId, int limit) {
+        return springDataRepository.findRenderSourcesAfter(afterId, PageRequest.ofSize(limit)).stream()
+                .map(view -> new RenderSource(view.getId(), view.getRenderRevision(), view.getContent(),
+                        view.getRenderedContent(), RenderStatus.valueOf(view.getRenderStatus())))
+                .toList();
+    }
+
+    @Override
+    public List<Long> insertAll(List<Article> articles) {
+        if (articles.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = allocateIds(articles.size());
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Article article = articles.get(i);
+                Timestamp createdAt = Timestamp.valueOf(article.getAudit().getCreatedAt());
+                ps.setLong(1, ids.get(i));
+                ps.setString(2, article.getTitle());
+                ps.setString(3, article.getStatus().name());
+                ps.setLong(4, article.getCategoryId());
+                ps.setString(5, article.getKeywords());
+                ps.setString(6, article.getDigest().getExcerpt());
+                ps.setInt(7, article.getDigest().getWordCount());
+                ps.setString(8, article.getRenderStatus().name());
+                ps.setLong(9, article.getRenderRevision());
+                ps.setTimestamp(10, createdAt);
+                ps.setTimestamp(11, createdAt);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return articles.size();
+            }
+        });
+        jdbcTemplate.batchUpdate(INSERT_BODY_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Article article = articles.get(i);
+                ps.setLong(1, ids.get(i));
+                ps.setString(2, article.getContent());
+                ps.setString(3, article.getRenderedContent().getHtml());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return articles.size();
+            }
+        });
+        return ids;
+    }
+
+    /**
+     * 经实体的序列生成器取 ID：与实体保存共用 pooled 优化器预留的号段，每 50 个 ID 才访问一次序列，
+     * 取序列值的语句由 Hibernate 按方言生成
+     */
+    private List<Long> allocateIds(int count) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(ArticleEntity.class)
+                .getGenerator();
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add((Long) generator.generate(session, null));
+        }
+        return ids;
+    }
+
+    /**
+     * 先批量 UPDATE 已有的压缩副本，再对更新行数为 0 的文章批量 INSERT，两条语句都是标准 SQL
+     */
+    @Override
+    public void saveAllHtmlVariants(Map<Long, CompressedHtml> variants) {
+        if (variants.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Map.Entry<Long, CompressedHtml>> entries = List.copyOf(variants.entrySet());
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_HTML_VARIANTS_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setBytes(1, entry.getValue().getGzip());
+            ps.setBytes(2, entry.getValue().getDeflate());
+            ps.setTimestamp(3, now);
+            ps.setLong(4, entry.getKey());
+        })[0];
+        List<Map.Entry<Long, CompressedHtml>> missing = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                missing.add(entries.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_HTML_VARIANTS_SQL, missing, missing.size(), (ps, entry) -> {
+                ps.setLong(1, entry.getKey());
+                ps.setBytes(2, entry.getValue().getGzip());
+                ps.setBytes(3, entry.getValue().getDeflate());
+                ps.setTimestamp(4, now);
+            });
+        }
+    }
+
+    /**
+     * 元数据、渲染结果、压缩副本三条语句各一次 JDBC 批量执行，后两者只写入版本匹配、元数据确实更新了的文章
+     */
+    @Override
+    public List<Long> saveRenderResults(List<RenderResult> results) {
+        if (results.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[] counts = jdbcTemplate.batchUpdate(RENDER_RESULT_SQL, results, results.size(), (ps, result) -> {
+            ps.setString(1, result.getDigest().getExcerpt());
+            ps.setInt(2, result.getDigest().getWordCount());
+            ps.setTimestamp(3, now);
+            ps.setLong(4, result.getId());
+            ps.setLong(5, result.getRenderRevision());
+        })[0];
+        List<RenderResult> applied = new ArrayList<>(counts.length);
+        Map<Long, CompressedHtml> written = new LinkedHashMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                applied.add(results.get(i));
+                written.put(results.get(i).getId(), results.get(i).getVariants());
+            }
+        }
+        if (!applied.isEmpty()) {
+            jdbcTemplate.batchUpdate(RENDERED_BODY_SQL, applied, applied.size(), (ps, result) -> {
+                ps.setString(1, result.getRenderedContent().getHtml());
+                ps.setLong(2, result.getId());
+            });
+        }
+        saveAllHtmlVariants(written);
+        return List.copyOf(written.keySet());
+    }
+
+    /**
+     * 连接查询的投影不进入持久化上下文，无需逐条分离
+     */
+    @Override
+    public void scrollAll(Consumer<Article> action) {
+        try (Stream<ArticleDetailView> views = springDataRepository.streamAllDetails()) {
+            views.forEach(view -> action.accept(toDomain(view)));
+        }
+    }
+
+    /**
+     * 倒排索引给出按相关度排序的一页 ID，再按 ID 批量读取摘要并还原顺序
+     */
+    private Page<ArticleSummary> searchIndexed(String keyword, Long categoryId, Pageable pageable) {
+        ArticleSearchIndex.SearchResult result = searchIndex.search(
+                keyword, categoryId, (int) pageable.getOffset(), pageable.getPageSize());
+        long[] ids = result.getArticleIds();
+        if (ids.length == 0) {
+            return new PageImpl<>(List.of(), pageable, result.getTotal());
+        }
+        Map<Long, ArticleSummary> byId = springDataRepository
+                .findSummariesByIds(Arrays.stream(ids).boxed().toList()).stream()
+                .map(this::toSummary)
+                .collect(Collectors.toMap(ArticleSummary::getId, Function.identity()));
+        // 索引在事务提交后才更新，期间刚下线的文章在这里排除
+        List<ArticleSummary> ordered = Arrays.stream(ids)
+                .mapToObj(byId::get)
+                .filter(summary -> summary != null && summary.getStatus() == ArticleStatus.PUBLISHED)
+                .toList();
+        return new PageImpl<>(ordered, pageable, result.getTotal());
+    }
+
+    private Article toDomain(ArticleDetailView view) {
+        return Article.builder()
+                .id(view.getId())
+                .title(view.getTitle())
+                .content(view.getContent())
+                .renderedContent(RenderedContent.of(view.getRenderedContent()))
+                .renderStatus(RenderStatus.valueOf(view.getRenderStatus()))
+                .renderRevision(view.getRenderRevision())
+                .status(ArticleStatus.valueOf(view.getStatus()))
+                .categoryId(view.getCategoryId())
+                .publishedAt(view.getPublishedAt())
+                .keywords(view.getKeywords())
+                .viewCount(view.getViewCount())
+                .digest(view.getExcerpt() != null
+                        ? ArticleDigest.of(view.getExcerpt(), view.getWordCount())
+                        : null)
+                .audit(com.example.cms.domain.shared.Audit.of(
+                        view.getCreatedAt(),
+                        view.getUpdatedAt()
+                ))
+                .build();
+    }
+
+    private Article toDomain(ArticleEntity entity, String content, RenderedContent renderedContent) {
+        return metadataBuilder(entity)
+                .content(content)
+                .renderedContent(renderedContent)
+                .build();
+    }
+
+    private Article toMetadata(ArticleEntity entity) {
+        return metadataBuilder(entity)
+                .withoutBody()
+                .build();
+    }
+
+    private Article.Builder metadataBuilder(ArticleEntity entity) {
         return Article.builder()
                 .id(entity.getId())
                 .title(entity.getTitle())
-                .content(entity.getContent())
-                .renderedContent(com.example.cms.domain.model.article.RenderedContent.of(entity.getRenderedContent()))
+                .renderStatus(RenderStatus.valueOf(entity.getRenderStatus()))
+                .renderRevision(entity.getRenderRevision())
                 .status(ArticleStatus.valueOf(entity.getStatus()))
                 .categoryId(entity.getCategoryId())
                 .publishedAt(entity.getPublishedAt())
                 .keywords(entity.getKeywords())
+                .viewCount(entity.getViewCount())
+                .digest(entity.getExcerpt() != null
+                        ? ArticleDigest.of(entity.getExcerpt(), entity.getWordCount())
+                        : null)
                 .audit(com.example.cms.domain.shared.Audit.of(
                         entity.getCreatedAt(),
                         entity.getUpdatedAt()
+                ));
+    }
+
+    private ArticleSummary toSummary(ArticleSummaryView view) {
+        return ArticleSummary.builder()
+                .id(view.getId())
+                .title(view.getTitle())
+                .status(ArticleStatus.valueOf(view.getStatus()))
+                .categoryId(view.getCategoryId())
+                .publishedAt(view.getPublishedAt())
+                .keywords(view.getKeywords())
+                .digest(ArticleDigest.of(view.getExcerpt(), view.getWordCount()))
+                .audit(com.example.cms.domain.shared.Audit.of(
+                        view.getCreatedAt(),
+                        view.getUpdatedAt()
                 ))
                 .build();
     }
@@ -102,23 +551,27 @@ public class ArticleRepositoryImpl implements ArticleRepository {
         if (article.getId() == null) {
             return ArticleEntity.of(
                     article.getTitle(),
-                    article.getContent(),
-                    article.getRenderedContent().getHtml(),
                     article.getStatus().name(),
                     article.getCategoryId(),
-                    article.getKeywords()
+                    article.getKeywords(),
+                    article.getDigest().getExcerpt(),
+                    article.getDigest().getWordCount(),
+                    article.getRenderStatus().name(),
+                    article.getRenderRevision()
             );
         }
         return ArticleEntity.forUpdate(
                 article.getId(),
                 article.getTitle(),
-                article.getContent(),
-                article.getRenderedContent().getHtml(),
                 article.getStatus().name(),
                 article.getCategoryId(),
                 article.getAudit().getCreatedAt(),
                 article.getPublishedAt(),
-                article.getKeywords()
+                article.getKeywords(),
+                article.getDigest().getExcerpt(),
+                article.getDigest().getWordCount(),
+                article.getRenderStatus().name(),
+                article.getRenderRevision()
         );
     }
 }
@@ -0,0 +1,12 @@
+package com.example.cms.infrastructure.persistence.repository;
+
+/**
+ * 全文索引投影，只选取建索引用到的列，不读取渲染结果
+ */
+public interface ArticleSearchSourceView {
+    Long getId();
+    Long getCategoryId();
+    String getTitle();
+    String getKeywords();
+    String getContent();
+}
@@ -0,0 +1,19 @@
+package com.example.cms.infrastructure.persistence.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文章列表投影，只选取元数据与摘要列，不读取 content / rendered_content
+ */
+public interface ArticleSummaryView {
+    Long getId();
+    String getTitle();
+    String getStatus();
+    Long getCategoryId();
+    LocalDateTime getPublishedAt();
+    String getKeywords();
+    String getExcerpt();
+    Integer getWordCount();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
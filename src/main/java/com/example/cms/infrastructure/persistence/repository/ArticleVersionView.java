@@ -0,0 +1,11 @@
+package com.example.cms.infrastructure.persistence.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 条件请求校验投影，只选取修改时间与分类 ID
+ */
+public interface ArticleVersionView {
+    LocalDateTime getUpdatedAt();
+    Long getCategoryId();
+}
@@ -0,0 +1,47 @@
+package com.example.cms.infrastructure.persistence.repository;
+
+import com.example.cms.domain.repository.CategoryClosureRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class CategoryClosureRepositoryImpl implements CategoryClosureRepository {
+
+    private final SpringDataCategoryClosureRepository springDataRepository;
+
+    @Override
+    public void insertNode(Long categoryId, Long parentId) {
+        springDataRepository.insertNode(categoryId, parentId);
+    }
+
+    @Override
+    public void moveSubtree(Long categoryId, Long newParentId) {
+        springDataRepository.detachSubtree(categoryId);
+        if (newParentId != null) {
+            springDataRepository.attachSubtree(categoryId, newParentId);
+        }
+    }
+
+    @Override
+    public void deleteNode(Long categoryId) {
+        springDataRepository.deleteNode(categoryId);
+    }
+
+    @Override
+    public boolean isInSubtree(Long ancestorId, Long descendantId) {
+        return springDataRepository.existsByAncestorIdAndDescendantId(ancestorId, descendantId);
+    }
+
+    @Override
+    public List<Long> findDescendantIds(Long categoryId) {
+        return springDataRepository.findDescendantIds(categoryId);
+    }
+
+    @Override
+    public List<Long> findAncestorIds(Long categoryId) {
+        return springDataRepository.findAncestorIds(categoryId);
+    }
+}
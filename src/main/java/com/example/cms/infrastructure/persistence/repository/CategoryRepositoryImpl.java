@@ -1,18 +1,25 @@
 package com.example.cms.infrastructure.persistence.repository;
 
 import com.example.cms.domain.model.category.Category;
+import com.example.cms.domain.model.category.CategoryTreeEntry;
+import com.example.cms.domain.model.sortorder.ResourceType;
 import com.example.cms.domain.repository.CategoryRepository;
 import com.example.cms.infrastructure.persistence.entity.CategoryEntity;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
-@org.springframework.stereotype.Repository
+@Repository
 @RequiredArgsConstructor
 public class CategoryRepositoryImpl implements CategoryRepository {
 
     private final SpringDataCategoryRepository springDataRepository;
+    private final EntityManager entityManager;
 
     @Override
     public Category save(Category category) {
@@ -39,6 +46,11 @@ public class CategoryRepositoryImpl implements CategoryRepository {
         springDataRepository.deleteById(id);
     }
 
+    @Override
+    public void deleteAllByIds(List<Long> ids) {
+        springDataRepository.deleteAllByIds(ids);
+    }
+
     @Override
     public boolean existsByName(String name) {
         return springDataRepository.existsByName(name);
@@ -57,6 +69,24 @@ public class CategoryRepositoryImpl implements CategoryRepository {
         return springDataRepository.existsById(id);
     }
 
+    @Override
+    public void scrollAll(Consumer<Category> action) {
+        try (Stream<CategoryEntity> entities = springDataRepository.streamAllByOrderByIdAsc()) {
+            entities.forEach(entity -> {
+                action.accept(toDomain(entity));
+                entityManager.detach(entity);
+            });
+        }
+    }
+
+    @Override
+    public List<CategoryTreeEntry> findTreeEntries() {
+        return springDataRepository.findTreeEntries(ResourceType.CATEGORY).stream()
+                .map(view -> new CategoryTreeEntry(view.getId(), view.getName(), view.getDescription(),
+                        view.getParentId(), view.getSortRank()))
+                .toList();
+    }
+
     private Category toDomain(CategoryEntity entity) {
         return Category.builder()
                 .id(entity.getId())
@@ -0,0 +1,12 @@
+package com.example.cms.infrastructure.persistence.repository;
+
+/**
+ * 分类树投影：sort_orders 中的分类记录联结 categories，一次扫描取出整棵树
+ */
+public interface CategoryTreeEntryView {
+    Long getId();
+    String getName();
+    String getDescription();
+    Long getParentId();
+    String getSortRank();
+}
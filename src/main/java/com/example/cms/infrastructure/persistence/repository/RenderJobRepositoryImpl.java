@@ -0,0 +1,40 @@
+package com.example.cms.infrastructure.persistence.repository;
+
+import com.example.cms.domain.model.article.RenderJob;
+import com.example.cms.domain.model.article.RenderJobStatus;
+import com.example.cms.domain.repository.RenderJobRepository;
+import com.example.cms.infrastructure.persistence.entity.RenderJobEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class RenderJobRepositoryImpl implements RenderJobRepository {
+
+    private final SpringDataRenderJobRepository springDataRenderJobRepository;
+
+    @Override
+    public RenderJob save(RenderJob job) {
+        return springDataRenderJobRepository.save(RenderJobEntity.fromDomainModel(job)).toDomainModel();
+    }
+
+    @Override
+    public Optional<RenderJob> findById(Long id) {
+        return springDataRenderJobRepository.findById(id)
+                .map(RenderJobEntity::toDomainModel);
+    }
+
+    @Override
+    public Optional<RenderJob> findLatest() {
+        return springDataRenderJobRepository.findFirstByOrderByIdDesc()
+                .map(RenderJobEntity::toDomainModel);
+    }
+
+    @Override
+    public Optional<RenderJob> findFirstByStatus(RenderJobStatus status) {
+        return springDataRenderJobRepository.findFirstByStatusOrderByIdDesc(status)
+                .map(RenderJobEntity::toDomainModel);
+    }
+}
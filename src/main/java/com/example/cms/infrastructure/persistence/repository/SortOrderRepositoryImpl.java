@@ -2,19 +2,35 @@ package com.example.cms.infrastructure.persistence.repository;
 
 import com.example.cms.domain.model.sortorder.ResourceType;
 import com.example.cms.domain.model.sortorder.SortOrder;
+import com.example.cms.domain.model.sortorder.SortParent;
 import com.example.cms.domain.repository.SortOrderRepository;
 import com.example.cms.infrastructure.persistence.entity.SortOrderEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 public class SortOrderRepositoryImpl implements SortOrderRepository {
 
+    private static final String UPDATE_SORT_RANK_SQL =
+            "UPDATE sort_orders SET sort_rank = ?, sort_order = ?, updated_at = ? WHERE id = ?";
+
     private final SpringDataSortOrderRepository springDataSortOrderRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public SortOrder save(SortOrder sortOrder) {
@@ -31,14 +47,98 @@ public class SortOrderRepositoryImpl implements SortOrderRepository {
     }
 
     @Override
-    public List<SortOrder> findByParentTypeAndParentIdOrderBySortOrder(ResourceType parentType, Long parentId) {
+    public List<SortOrder> findByResourceTypeAndResourceIds(ResourceType resourceType, List<Long> resourceIds) {
+        return springDataSortOrderRepository
+                .findByResourceTypeAndResourceIdIn(resourceType, resourceIds)
+                .stream()
+                .map(SortOrderEntity::toDomainModel)
+                .toList();
+    }
+
+    @Override
+    public Optional<SortOrder> findByResourceTypeAndResourceIdForUpdate(ResourceType resourceType, Long resourceId) {
+        return springDataSortOrderRepository
+                .findForUpdateByResourceTypeAndResourceId(resourceType, resourceId)
+                .map(SortOrderEntity::toDomainModel);
+    }
+
+    @Override
+    public List<SortOrder> findByResourceTypeAndResourceIdsForUpdate(ResourceType resourceType, List<Long> resourceIds) {
         return springDataSortOrderRepository
-                .findByParentTypeAndParentIdOrderBySortOrderAsc(parentType, parentId)
+                .findForUpdateByResourceTypeAndResourceIdIn(resourceType, resourceIds)
                 .stream()
                 .map(SortOrderEntity::toDomainModel)
                 .toList();
     }
 
+    @Override
+    public List<SortOrder> findByParentOrderBySortRank(SortParent parent) {
+        return springDataSortOrderRepository
+                .findByParentTypeAndParentIdOrderBySortRankAscIdAsc(parent.getType(), parent.getId())
+                .stream()
+                .map(SortOrderEntity::toDomainModel)
+                .toList();
+    }
+
+    @Override
+    public List<SortOrder> findByParentOrderBySortRankForUpdate(SortParent parent) {
+        return springDataSortOrderRepository
+                .findForUpdateByParentTypeAndParentIdOrderBySortRankAscIdAsc(parent.getType(), parent.getId())
+                .stream()
+                .map(SortOrderEntity::toDomainModel)
+                .toList();
+    }
+
+    /**
+     * 根级记录的父类型与父 ID 都为 NULL，与派生查询一样按 IS NULL 匹配
+     */
+    @Override
+    public List<SortOrder> findByParentOrderBySortRank(SortParent parent, int offset, int limit) {
+        TypedQuery<SortOrderEntity> query = entityManager.createQuery("SELECT s FROM SortOrderEntity s WHERE "
+                + (parent.getType() == null ? "s.parentType IS NULL" : "s.parentType = :parentType") + " AND "
+                + (parent.getId() == null ? "s.parentId IS NULL" : "s.parentId = :parentId")
+                + " ORDER BY s.sortRank, s.id", SortOrderEntity.class);
+        if (parent.getType() != null) {
+            query.setParameter("parentType", parent.getType());
+        }
+        if (parent.getId() != null) {
+            query.setParameter("parentId", parent.getId());
+        }
+        return query.setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(SortOrderEntity::toDomainModel)
+                .toList();
+    }
+
+    @Override
+    public Optional<SortOrder> findLastWithSortRankBelow(SortParent parent, String sortRank) {
+        return springDataSortOrderRepository
+                .findFirstByParentTypeAndParentIdAndSortRankLessThanOrderBySortRankDescIdDesc(
+                        parent.getType(), parent.getId(), sortRank)
+                .map(SortOrderEntity::toDomainModel);
+    }
+
+    @Override
+    public Optional<SortOrder> findFirstWithSortRankAbove(SortParent parent, String sortRank) {
+        return springDataSortOrderRepository
+                .findFirstByParentTypeAndParentIdAndSortRankGreaterThanOrderBySortRankAscIdAsc(
+                        parent.getType(), parent.getId(), sortRank)
+                .map(SortOrderEntity::toDomainModel);
+    }
+
+    @Override
+    public int countByParent(SortParent parent) {
+        return Math.toIntExact(springDataSortOrderRepository.countByParentTypeAndParentId(parent.getType(), parent.getId()));
+    }
+
+    @Override
+    public List<SortParent> findParentsWithSortRankLongerThan(int maxLength) {
+        return springDataSortOrderRepository.findParentsWithRankLongerThan(maxLength).stream()
+                .map(view -> new SortParent(view.getParentType(), view.getParentId()))
+                .toList();
+    }
+
     @Override
     public List<SortOrder> findByResourceTypeOrderBySortOrder(ResourceType resourceType) {
         return springDataSortOrderRepository
@@ -61,6 +161,11 @@ public class SortOrderRepositoryImpl implements SortOrderRepository {
         springDataSortOrderRepository.deleteByResourceTypeAndResourceId(resourceType, resourceId);
     }
 
+    @Override
+    public void deleteByResourceTypeAndResourceIds(ResourceType resourceType, List<Long> resourceIds) {
+        springDataSortOrderRepository.deleteByResourceTypeAndResourceIdIn(resourceType, resourceIds);
+    }
+
     @Override
     public void deleteByParentTypeAndParentId(ResourceType parentType, Long parentId) {
         springDataSortOrderRepository.deleteByParentTypeAndParentId(parentType, parentId);
@@ -71,8 +176,58 @@ public class SortOrderRepositoryImpl implements SortOrderRepository {
         springDataSortOrderRepository.updateSortOrder(id, newSortOrder);
     }
 
+    @Override
+    public int updateSortRank(Long id, String sortRank) {
+        return springDataSortOrderRepository.updateSortRank(id, sortRank);
+    }
+
+    /**
+     * 一次 JDBC 批量更新写入全部排序键，任一行已不存在时抛出异常，由调用方事务整体回滚
+     * 执行前刷新持久化上下文中待写的修改，执行后清空上下文，同一事务内之后的查询从数据库读到新值
+     */
+    @Override
+    public void updateSortRanks(List<SortOrder> sortOrders) {
+        if (sortOrders.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_SORT_RANK_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                SortOrder sortOrder = sortOrders.get(i);
+                ps.setString(1, sortOrder.getSortRank());
+                ps.setInt(2, sortOrder.getSortOrder());
+                ps.setTimestamp(3, now);
+                ps.setLong(4, sortOrder.getId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return sortOrders.size();
+            }
+        });
+        entityManager.clear();
+        for (int count : counts) {
+            // 驱动不返回行数时为 SUCCESS_NO_INFO（负数），只有 0 表示该行已被删除
+            if (count == 0) {
+                throw new IllegalArgumentException("排序记录在更新期间被删除，请刷新后重试");
+            }
+        }
+    }
+
     @Override
     public boolean existsByResourceTypeAndResourceId(ResourceType resourceType, Long resourceId) {
         return springDataSortOrderRepository.existsByResourceTypeAndResourceId(resourceType, resourceId);
     }
+
+    @Override
+    public void scrollAll(Consumer<SortOrder> action) {
+        try (Stream<SortOrderEntity> entities = springDataSortOrderRepository.streamAllByOrderByIdAsc()) {
+            entities.forEach(entity -> {
+                action.accept(entity.toDomainModel());
+                entityManager.detach(entity);
+            });
+        }
+    }
 }
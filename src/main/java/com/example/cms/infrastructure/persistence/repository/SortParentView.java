@@ -0,0 +1,11 @@
+package com.example.cms.infrastructure.persistence.repository;
+
+import com.example.cms.domain.model.sortorder.ResourceType;
+
+/**
+ * 排序父节点投影：按 (parent_type, parent_id) 分组的聚合结果
+ */
+public interface SortParentView {
+    ResourceType getParentType();
+    Long getParentId();
+}
@@ -0,0 +1,24 @@
+package com.example.cms.infrastructure.persistence.repository;
+
+import com.example.cms.infrastructure.persistence.entity.ArticleBodyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SpringDataArticleBodyRepository extends JpaRepository<ArticleBodyEntity, Long> {
+
+    @Modifying
+    @Query("UPDATE ArticleBodyEntity b SET b.content = :content, b.renderedContent = :renderedContent " +
+           "WHERE b.articleId = :articleId")
+    int updateBody(@Param("articleId") Long articleId,
+                   @Param("content") String content,
+                   @Param("renderedContent") String renderedContent);
+
+    @Modifying
+    @Query("UPDATE ArticleBodyEntity b SET b.renderedContent = :renderedContent WHERE b.articleId = :articleId")
+    int updateRenderedContent(@Param("articleId") Long articleId,
+                              @Param("renderedContent") String renderedContent);
+}
@@ -0,0 +1,19 @@
+package com.example.cms.infrastructure.persistence.repository;
+
+import com.example.cms.infrastructure.persistence.entity.ArticleHtmlVariantEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SpringDataArticleHtmlVariantRepository extends JpaRepository<ArticleHtmlVariantEntity, Long> {
+
+    @Query("SELECT b.articleId AS id, b.renderedContent AS renderedContent FROM ArticleBodyEntity b " +
+           "WHERE b.articleId > :afterId AND NOT EXISTS " +
+           "(SELECT 1 FROM ArticleHtmlVariantEntity v WHERE v.articleId = b.articleId) ORDER BY b.articleId")
+    List<ArticleRenderedHtmlView> findRenderedContentWithoutVariants(@Param("afterId") Long afterId, Pageable pageable);
+}
@@ -1,27 +1,198 @@
 package com.example.cms.infrastructure.persistence.repository;
 
 import com.example.cms.infrastructure.persistence.entity.ArticleEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface SpringDataArticleRepository extends JpaRepository<ArticleEntity, Long> {
-    List<ArticleEntity> findByCategoryId(Long categoryId);
-    List<ArticleEntity> findByStatus(String status);
-    List<ArticleEntity> findByStatusOrderByPublishedAtDesc(String status);
-    List<ArticleEntity> findByCategoryIdAndStatus(Long categoryId, String status);
+    String SUMMARY_SELECT = "SELECT a.id AS id, a.title AS title, a.status AS status, " +
+            "a.categoryId AS categoryId, a.publishedAt AS publishedAt, a.keywords AS keywords, " +
+            "a.excerpt AS excerpt, a.wordCount AS wordCount, " +
+            "a.createdAt AS createdAt, a.updatedAt AS updatedAt FROM ArticleEntity a ";
+    String DETAIL_SELECT = "SELECT a.id AS id, a.title AS title, b.content AS content, " +
+            "b.renderedContent AS renderedContent, a.status AS status, a.categoryId AS categoryId, " +
+            "a.publishedAt AS publishedAt, a.keywords AS keywords, a.excerpt AS excerpt, " +
+            "a.wordCount AS wordCount, a.renderStatus AS renderStatus, a.renderRevision AS renderRevision, " +
+            "a.viewCount AS viewCount, a.createdAt AS createdAt, a.updatedAt AS updatedAt " +
+            "FROM ArticleEntity a JOIN ArticleBodyEntity b ON b.articleId = a.id ";
+
     boolean existsByCategoryId(Long categoryId);
 
-    @Query("SELECT a FROM ArticleEntity a WHERE " +
-           "(:keyword IS NULL OR a.title LIKE %:keyword% OR a.keywords LIKE %:keyword%) " +
+    boolean existsByCategoryIdIn(Collection<Long> categoryIds);
+
+    @Query(DETAIL_SELECT + "WHERE a.id = :id")
+    Optional<ArticleDetailView> findDetailById(@Param("id") Long id);
+
+    @Query(DETAIL_SELECT + "WHERE a.id IN :ids")
+    List<ArticleDetailView> findDetailsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query(DETAIL_SELECT + "ORDER BY a.id")
+    List<ArticleDetailView> findAllDetails();
+
+    @Query(DETAIL_SELECT + "WHERE a.categoryId = :categoryId")
+    List<ArticleDetailView> findDetailsByCategoryId(@Param("categoryId") Long categoryId);
+
+    @Query(DETAIL_SELECT + "WHERE a.status = :status")
+    List<ArticleDetailView> findDetailsByStatus(@Param("status") String status);
+
+    @Query(DETAIL_SELECT + "WHERE a.status = :status ORDER BY a.publishedAt DESC")
+    List<ArticleDetailView> findDetailsByStatusOrderByPublishedAtDesc(@Param("status") String status);
+
+    @Query(DETAIL_SELECT + "WHERE a.categoryId = :categoryId AND a.status = :status")
+    List<ArticleDetailView> findDetailsByCategoryIdAndStatus(@Param("categoryId") Long categoryId,
+                                                             @Param("status") String status);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(DETAIL_SELECT + "ORDER BY a.id")
+    Stream<ArticleDetailView> streamAllDetails();
+
+    @Query("SELECT a.id AS id, a.categoryId AS categoryId, a.title AS title, a.keywords AS keywords, " +
+           "b.content AS content FROM ArticleEntity a JOIN ArticleBodyEntity b ON b.articleId = a.id " +
+           "WHERE a.id > :afterId AND a.status = :status ORDER BY a.id")
+    List<ArticleSearchSourceView> findSearchSourcesAfter(@Param("afterId") Long afterId,
+                                                         @Param("status") String status,
+                                                         Pageable pageable);
+
+    @Query("SELECT a.id AS id, a.categoryId AS categoryId, a.title AS title, a.keywords AS keywords, " +
+           "b.content AS content FROM ArticleEntity a JOIN ArticleBodyEntity b ON b.articleId = a.id " +
+           "WHERE a.id IN :ids AND a.status = :status")
+    List<ArticleSearchSourceView> findSearchSourcesByIds(@Param("ids") Collection<Long> ids,
+                                                         @Param("status") String status);
+
+    @Query(SUMMARY_SELECT + "ORDER BY a.id")
+    List<ArticleSummaryView> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE a.status = :status ORDER BY a.publishedAt DESC")
+    List<ArticleSummaryView> findSummariesByStatus(@Param("status") String status);
+
+    @Query(SUMMARY_SELECT + "WHERE a.categoryId = :categoryId AND a.status = :status")
+    List<ArticleSummaryView> findSummariesByCategoryIdAndStatus(@Param("categoryId") Long categoryId,
+                                                                @Param("status") String status);
+
+    @Query(SUMMARY_SELECT + "WHERE a.status = :status " +
+           "ORDER BY a.publishedAt DESC, a.id DESC")
+    List<ArticleSummaryView> findFeedFirstPage(@Param("status") String status, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE a.status = :status " +
+           "AND (a.publishedAt < :publishedAt OR (a.publishedAt = :publishedAt AND a.id < :id)) " +
+           "ORDER BY a.publishedAt DESC, a.id DESC")
+    List<ArticleSummaryView> findFeedAfter(@Param("status") String status,
+                                           @Param("publishedAt") LocalDateTime publishedAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE a.categoryId = :categoryId AND a.status = :status " +
+           "ORDER BY a.publishedAt DESC, a.id DESC")
+    List<ArticleSummaryView> findCategoryFeedFirstPage(@Param("categoryId") Long categoryId,
+                                                       @Param("status") String status,
+                                                       Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE a.categoryId = :categoryId AND a.status = :status " +
+           "AND (a.publishedAt < :publishedAt OR (a.publishedAt = :publishedAt AND a.id < :id)) " +
+           "ORDER BY a.publishedAt DESC, a.id DESC")
+    List<ArticleSummaryView> findCategoryFeedAfter(@Param("categoryId") Long categoryId,
+                                                   @Param("status") String status,
+                                                   @Param("publishedAt") LocalDateTime publishedAt,
+                                                   @Param("id") Long id,
+                                                   Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE a.status = :status AND a.categoryId IN " +
+           "(SELECT c.descendantId FROM CategoryClosureEntity c WHERE c.ancestorId = :categoryId) " +
+           "ORDER BY a.publishedAt DESC, a.id DESC")
+    List<ArticleSummaryView> findSubtreeFeedFirstPage(@Param("categoryId") Long categoryId,
+                                                      @Param("status") String status,
+                                                      Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE a.status = :status AND a.categoryId IN " +
+           "(SELECT c.descendantId FROM CategoryClosureEntity c WHERE c.ancestorId = :categoryId) " +
+           "AND (a.publishedAt < :publishedAt OR (a.publishedAt = :publishedAt AND a.id < :id)) " +
+           "ORDER BY a.publishedAt DESC, a.id DESC")
+    List<ArticleSummaryView> findSubtreeFeedAfter(@Param("categoryId") Long categoryId,
+                                                  @Param("status") String status,
+                                                  @Param("publishedAt") LocalDateTime publishedAt,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE a.status = :status " +
+           "AND (:keyword IS NULL OR a.title LIKE %:keyword% OR a.keywords LIKE %:keyword%) " +
+           "AND (:categoryId IS NULL OR a.categoryId = :categoryId)",
+           countQuery = "SELECT COUNT(a) FROM ArticleEntity a WHERE a.status = :status " +
+           "AND (:keyword IS NULL OR a.title LIKE %:keyword% OR a.keywords LIKE %:keyword%) " +
            "AND (:categoryId IS NULL OR a.categoryId = :categoryId)")
-    Page<ArticleEntity> searchByKeyword(@Param("keyword") String keyword,
-                                        @Param("categoryId") Long categoryId,
-                                        Pageable pageable);
+    Page<ArticleSummaryView> searchByKeyword(@Param("keyword") String keyword,
+                                             @Param("categoryId") Long categoryId,
+                                             @Param("status") String status,
+                                             Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE a.id IN :ids")
+    List<ArticleSummaryView> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT a.updatedAt AS updatedAt, a.categoryId AS categoryId FROM ArticleEntity a WHERE a.id = :id AND a.status = :status")
+    Optional<ArticleVersionView> findVersionByIdAndStatus(@Param("id") Long id, @Param("status") String status);
+
+    @Query("SELECT a.viewCount FROM ArticleEntity a WHERE a.id = :id AND a.status = :status")
+    Optional<Long> findViewCountByIdAndStatus(@Param("id") Long id, @Param("status") String status);
+
+    @Query("SELECT a.id AS id, b.renderedContent AS renderedContent " +
+           "FROM ArticleEntity a JOIN ArticleBodyEntity b ON b.articleId = a.id " +
+           "WHERE a.excerpt IS NULL AND a.id > :afterId ORDER BY a.id")
+    List<ArticleRenderedHtmlView> findRenderedContentWithoutDigest(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT a.id FROM ArticleEntity a WHERE a.renderStatus = :renderStatus ORDER BY a.id")
+    List<Long> findIdsByRenderStatus(@Param("renderStatus") String renderStatus);
+
+    @Query("SELECT a.id AS id, a.renderRevision AS renderRevision, b.content AS content, " +
+           "b.renderedContent AS renderedContent, a.renderStatus AS renderStatus " +
+           "FROM ArticleEntity a JOIN ArticleBodyEntity b ON b.articleId = a.id " +
+           "WHERE a.id > :afterId ORDER BY a.id")
+    List<ArticleRenderSourceView> findRenderSourcesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE ArticleEntity a SET a.excerpt = :excerpt, " +
+           "a.wordCount = :wordCount, a.renderStatus = 'RENDERED', a.updatedAt = :updatedAt " +
+           "WHERE a.id = :id AND a.renderRevision = :renderRevision")
+    int updateRenderResult(@Param("id") Long id,
+                           @Param("renderRevision") long renderRevision,
+                           @Param("excerpt") String excerpt,
+                           @Param("wordCount") int wordCount,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("UPDATE ArticleEntity a SET a.renderStatus = :renderStatus " +
+           "WHERE a.id = :id AND a.renderRevision = :renderRevision")
+    int updateRenderStatus(@Param("id") Long id,
+                           @Param("renderRevision") long renderRevision,
+                           @Param("renderStatus") String renderStatus);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ArticleEntity a SET a.status = 'PUBLISHED', a.publishedAt = :publishedAt, " +
+           "a.updatedAt = :publishedAt " +
+           "WHERE a.id = :id AND a.status <> 'PUBLISHED' AND a.renderStatus = 'RENDERED'")
+    int markPublished(@Param("id") Long id, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ArticleEntity a SET a.status = 'DRAFT', a.publishedAt = NULL, a.updatedAt = :updatedAt " +
+           "WHERE a.id = :id AND a.status <> 'DRAFT'")
+    int markUnpublished(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ArticleEntity a SET a.categoryId = :categoryId, a.updatedAt = :updatedAt WHERE a.id = :id")
+    int updateCategory(@Param("id") Long id,
+                       @Param("categoryId") Long categoryId,
+                       @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,59 @@
+package com.example.cms.infrastructure.persistence.repository;
+
+import com.example.cms.infrastructure.persistence.entity.CategoryClosureEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SpringDataCategoryClosureRepository
+        extends JpaRepository<CategoryClosureEntity, CategoryClosureEntity.Key> {
+
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+
+    @Query("SELECT c.descendantId FROM CategoryClosureEntity c WHERE c.ancestorId = :id ORDER BY c.depth, c.descendantId")
+    List<Long> findDescendantIds(@Param("id") Long categoryId);
+
+    @Query("SELECT c.ancestorId FROM CategoryClosureEntity c WHERE c.descendantId = :id ORDER BY c.depth DESC")
+    List<Long> findAncestorIds(@Param("id") Long categoryId);
+
+    /**
+     * 自身一行，加上父分类的每个祖先（含父分类自身）各一行
+     */
+    @Modifying
+    @Query(value = "INSERT INTO category_closure (ancestor_id, descendant_id, depth) " +
+                   "SELECT CAST(:id AS BIGINT), CAST(:id AS BIGINT), 0 " +
+                   "UNION ALL " +
+                   "SELECT ancestor_id, :id, depth + 1 FROM category_closure WHERE descendant_id = :parentId",
+           nativeQuery = true)
+    int insertNode(@Param("id") Long categoryId, @Param("parentId") Long parentId);
+
+    /**
+     * 断开子树与其外部祖先的联系，子树内部的行保留
+     */
+    @Modifying
+    @Query(value = "DELETE FROM category_closure " +
+                   "WHERE descendant_id IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = :id) " +
+                   "AND ancestor_id NOT IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = :id)",
+           nativeQuery = true)
+    int detachSubtree(@Param("id") Long categoryId);
+
+    /**
+     * 新父分类的每个祖先 × 子树的每个节点
+     */
+    @Modifying
+    @Query(value = "INSERT INTO category_closure (ancestor_id, descendant_id, depth) " +
+                   "SELECT p.ancestor_id, s.descendant_id, p.depth + s.depth + 1 " +
+                   "FROM category_closure p CROSS JOIN category_closure s " +
+                   "WHERE p.descendant_id = :parentId AND s.ancestor_id = :id",
+           nativeQuery = true)
+    int attachSubtree(@Param("id") Long categoryId, @Param("parentId") Long parentId);
+
+    @Modifying
+    @Query("DELETE FROM CategoryClosureEntity c WHERE c.ancestorId = :id OR c.descendantId = :id")
+    int deleteNode(@Param("id") Long categoryId);
+}
@@ -1,13 +1,40 @@
 package com.example.cms.infrastructure.persistence.repository;
 
+import com.example.cms.domain.model.sortorder.ResourceType;
 import com.example.cms.infrastructure.persistence.entity.CategoryEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface SpringDataCategoryRepository extends JpaRepository<CategoryEntity, Long> {
     Optional<CategoryEntity> findByName(String name);
     boolean existsByName(String name);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<CategoryEntity> streamAllByOrderByIdAsc();
+
+    @Modifying
+    @Query("DELETE FROM CategoryEntity c WHERE c.id IN :ids")
+    void deleteAllByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT c.id AS id, c.name AS name, c.description AS description, " +
+           "s.parentId AS parentId, s.sortRank AS sortRank " +
+           "FROM SortOrderEntity s JOIN CategoryEntity c ON c.id = s.resourceId " +
+           "WHERE s.resourceType = :resourceType")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    List<CategoryTreeEntryView> findTreeEntries(@Param("resourceType") ResourceType resourceType);
 }
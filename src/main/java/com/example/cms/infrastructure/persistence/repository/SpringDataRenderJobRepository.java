@@ -0,0 +1,14 @@
+package com.example.cms.infrastructure.persistence.repository;
+
+import com.example.cms.domain.model.article.RenderJobStatus;
+import com.example.cms.infrastructure.persistence.entity.RenderJobEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SpringDataRenderJobRepository extends JpaRepository<RenderJobEntity, Long> {
+    Optional<RenderJobEntity> findFirstByOrderByIdDesc();
+    Optional<RenderJobEntity> findFirstByStatusOrderByIdDesc(RenderJobStatus status);
+}
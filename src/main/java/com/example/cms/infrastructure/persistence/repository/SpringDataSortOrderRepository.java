@@ -2,33 +2,79 @@ package com.example.cms.infrastructure.persistence.repository;
 
 import com.example.cms.domain.model.sortorder.ResourceType;
 import com.example.cms.infrastructure.persistence.entity.SortOrderEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface SpringDataSortOrderRepository extends JpaRepository<SortOrderEntity, Long> {
 
     Optional<SortOrderEntity> findByResourceTypeAndResourceId(ResourceType resourceType, Long resourceId);
 
-    List<SortOrderEntity> findByParentTypeAndParentIdOrderBySortOrderAsc(ResourceType parentType, Long parentId);
+    List<SortOrderEntity> findByResourceTypeAndResourceIdIn(ResourceType resourceType, Collection<Long> resourceIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<SortOrderEntity> findForUpdateByResourceTypeAndResourceId(ResourceType resourceType, Long resourceId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<SortOrderEntity> findForUpdateByResourceTypeAndResourceIdIn(ResourceType resourceType, Collection<Long> resourceIds);
+
+    List<SortOrderEntity> findByParentTypeAndParentIdOrderBySortRankAscIdAsc(ResourceType parentType, Long parentId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<SortOrderEntity> findForUpdateByParentTypeAndParentIdOrderBySortRankAscIdAsc(ResourceType parentType,
+                                                                                      Long parentId);
+
+    Optional<SortOrderEntity> findFirstByParentTypeAndParentIdAndSortRankLessThanOrderBySortRankDescIdDesc(
+            ResourceType parentType, Long parentId, String sortRank);
+
+    Optional<SortOrderEntity> findFirstByParentTypeAndParentIdAndSortRankGreaterThanOrderBySortRankAscIdAsc(
+            ResourceType parentType, Long parentId, String sortRank);
+
+    long countByParentTypeAndParentId(ResourceType parentType, Long parentId);
+
+    @Query("SELECT s.parentType AS parentType, s.parentId AS parentId FROM SortOrderEntity s " +
+           "GROUP BY s.parentType, s.parentId HAVING MAX(LENGTH(s.sortRank)) > :maxLength")
+    List<SortParentView> findParentsWithRankLongerThan(@Param("maxLength") int maxLength);
 
     List<SortOrderEntity> findByResourceTypeOrderBySortOrderAsc(ResourceType resourceType);
 
     boolean existsByResourceTypeAndResourceId(ResourceType resourceType, Long resourceId);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<SortOrderEntity> streamAllByOrderByIdAsc();
+
     @Modifying
     @Query("UPDATE SortOrderEntity s SET s.sortOrder = :order WHERE s.id = :id")
     void updateSortOrder(@Param("id") Long id, @Param("order") int order);
 
+    @Modifying
+    @Query("UPDATE SortOrderEntity s SET s.sortRank = :rank WHERE s.id = :id")
+    int updateSortRank(@Param("id") Long id, @Param("rank") String rank);
+
     @Modifying
     @Query("DELETE FROM SortOrderEntity s WHERE s.resourceType = :resourceType AND s.resourceId = :resourceId")
     void deleteByResourceTypeAndResourceId(@Param("resourceType") ResourceType resourceType,
                                            @Param("resourceId") Long resourceId);
 
+    @Modifying
+    @Query("DELETE FROM SortOrderEntity s WHERE s.resourceType = :resourceType AND s.resourceId IN :resourceIds")
+    void deleteByResourceTypeAndResourceIdIn(@Param("resourceType") ResourceType resourceType,
+                                             @Param("resourceIds") Collection<Long> resourceIds);
+
     @Modifying
     @Query("DELETE FROM SortOrderEntity s WHERE s.parentType = :parentType AND s.parentId = :parentId")
     void deleteByParentTypeAndParentId(@Param("parentType") ResourceType parentType,
@@ -0,0 +1,109 @@
+package com.example.cms.infrastructure.search;
+
+import com.example.cms.application.event.ArticleChangedEvent;
+import com.example.cms.domain.model.article.ArticleStatus;
+import com.example.cms.infrastructure.persistence.repository.ArticleSearchSourceView;
+import com.example.cms.infrastructure.persistence.repository.SpringDataArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 已发布文章的全文检索索引（标题、关键词、Markdown 正文），草稿与下线文章不进入索引
+ * 启动后从数据库分批重建，文章写操作事务提交后增量更新；重建完成前 isReady() 为 false，调用方回退到数据库查询
+ * 重建与增量更新串行执行（读库到写入索引整个过程），后读库的一方总是后写入，不会用旧版本覆盖新版本；
+ * 查询只取读写锁，不等待读库
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleSearchIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final SpringDataArticleRepository springDataRepository;
+
+    private final InvertedIndex index = new InvertedIndex();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            index.clear();
+            Long lastId = 0L;
+            List<ArticleSearchSourceView> batch;
+            do {
+                batch = springDataRepository.findSearchSourcesAfter(
+                        lastId, ArticleStatus.PUBLISHED.name(), PageRequest.ofSize(REBUILD_BATCH_SIZE));
+                for (ArticleSearchSourceView source : batch) {
+                    put(source);
+                    lastId = source.getId();
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("全文索引重建完成: {} 篇文章, {} 个词项, 耗时 {} ms",
+                index.size(), index.termCount(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getChangeType() == ArticleChangedEvent.ChangeType.DELETED) {
+            lock.writeLock().lock();
+            try {
+                event.getArticleIds().forEach(index::remove);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+        // 先移除再放回仍为已发布的文章：下线的随之移出索引，发布、改分类等变更按新内容重新索引；数据库读取放在锁外
+        List<ArticleSearchSourceView> sources = springDataRepository.findSearchSourcesByIds(
+                event.getArticleIds(), ArticleStatus.PUBLISHED.name());
+        lock.writeLock().lock();
+        try {
+            event.getArticleIds().forEach(index::remove);
+            sources.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public SearchResult search(String keyword, Long categoryId, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            InvertedIndex.SearchHits hits = index.search(keyword, categoryId, offset, limit);
+            return new SearchResult(hits.articleIds, hits.total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(ArticleSearchSourceView source) {
+        index.put(source.getId(), source.getCategoryId(), source.getTitle(), source.getKeywords(), source.getContent());
+    }
+
+    @Value
+    public static class SearchResult {
+        long[] articleIds;
+        int total;
+    }
+}
@@ -0,0 +1,289 @@
+package com.example.cms.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 文章倒排索引，BM25 打分
+ * 文档用内部递增 int 编号，倒排表只追加、天然有序；更新或删除时旧编号记入墓碑，
+ * 墓碑占比过高时整体压缩。查询以最短倒排表驱动、二分定位其余词项（AND 语义）
+ * 非线程安全，由 ArticleSearchIndex 负责加锁
+ */
+final class InvertedIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int KEYWORDS_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 1024;
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> docByArticle = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+
+    private long[] articleIds = new long[1024];
+    private long[] categoryIds = new long[1024];
+    private int[] docLengths = new int[1024];
+    private int maxDoc;
+    private int docCount;
+    private long totalLength;
+
+    void put(long articleId, long categoryId, String title, String keywords, String content) {
+        remove(articleId);
+
+        Map<String, int[]> frequencies = new HashMap<>();
+        int length = accumulate(frequencies, title, TITLE_WEIGHT)
+                + accumulate(frequencies, keywords, KEYWORDS_WEIGHT)
+                + accumulate(frequencies, content, CONTENT_WEIGHT);
+
+        int doc = allocateDoc();
+        articleIds[doc] = articleId;
+        categoryIds[doc] = categoryId;
+        docLengths[doc] = length;
+        for (Map.Entry<String, int[]> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), k -> new Postings()).append(doc, entry.getValue()[0]);
+        }
+        docByArticle.put(articleId, doc);
+        docCount++;
+        totalLength += length;
+    }
+
+    void remove(long articleId) {
+        Integer doc = docByArticle.remove(articleId);
+        if (doc == null) {
+            return;
+        }
+        deleted.set(doc);
+        totalLength -= docLengths[doc];
+        docCount--;
+        int tombstones = maxDoc - docCount;
+        if (tombstones >= MIN_TOMBSTONES_TO_COMPACT && tombstones > docCount / 4) {
+            compact();
+        }
+    }
+
+    void clear() {
+        postings.clear();
+        docByArticle.clear();
+        deleted.clear();
+        maxDoc = 0;
+        docCount = 0;
+        totalLength = 0;
+    }
+
+    int size() {
+        return docCount;
+    }
+
+    int termCount() {
+        return postings.size();
+    }
+
+    /**
+     * 返回按 BM25 得分降序的第 offset 起最多 limit 个文章 ID 及命中总数
+     */
+    SearchHits search(String query, Long categoryId, int offset, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(Tokenizer.tokenizeQuery(query));
+        if (queryTerms.isEmpty() || docCount == 0) {
+            return SearchHits.EMPTY;
+        }
+        List<Postings> lists = new ArrayList<>(queryTerms.size());
+        for (String term : queryTerms) {
+            Postings list = postings.get(term);
+            if (list == null) {
+                return SearchHits.EMPTY;
+            }
+            lists.add(list);
+        }
+        lists.sort((a, b) -> Integer.compare(a.size, b.size));
+
+        float avgLength = (float) totalLength / docCount;
+        float[] idf = new float[lists.size()];
+        for (int i = 0; i < lists.size(); i++) {
+            // 倒排表长度包含墓碑，作为文档频率的近似值，压缩后恢复精确
+            int df = Math.min(lists.get(i).size, docCount);
+            idf[i] = (float) Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+        }
+
+        int wanted = offset + limit;
+        PriorityQueue<ScoredDoc> top = new PriorityQueue<>(Math.max(1, wanted + 1));
+        int total = 0;
+        boolean filterCategory = categoryId != null;
+        long category = filterCategory ? categoryId : 0L;
+        Postings driver = lists.get(0);
+        int[] cursors = new int[lists.size()];
+        for (int p = 0; p < driver.size; p++) {
+            int doc = driver.docs[p];
+            if (deleted.get(doc) || (filterCategory && categoryIds[doc] != category)) {
+                continue;
+            }
+            float norm = K1 * (1 - B + B * docLengths[doc] / avgLength);
+            float score = bm25(driver.tf(p), norm, idf[0]);
+            boolean matched = true;
+            for (int i = 1; i < lists.size(); i++) {
+                Postings other = lists.get(i);
+                int pos = other.seek(doc, cursors[i]);
+                cursors[i] = pos < 0 ? -pos - 1 : pos;
+                if (pos < 0) {
+                    matched = false;
+                    break;
+                }
+                score += bm25(other.tf(pos), norm, idf[i]);
+            }
+            if (!matched) {
+                continue;
+            }
+            total++;
+            if (wanted > 0 && (top.size() < wanted || score > top.peek().score)) {
+                top.offer(new ScoredDoc(articleIds[doc], score));
+                if (top.size() > wanted) {
+                    top.poll();
+                }
+            }
+        }
+
+        ScoredDoc[] ranked = top.toArray(new ScoredDoc[0]);
+        Arrays.sort(ranked, (a, b) -> a.score != b.score
+                ? Float.compare(b.score, a.score)
+                : Long.compare(b.articleId, a.articleId));
+        int from = Math.min(offset, ranked.length);
+        long[] ids = new long[ranked.length - from];
+        for (int i = from; i < ranked.length; i++) {
+            ids[i - from] = ranked[i].articleId;
+        }
+        return new SearchHits(ids, total);
+    }
+
+    /**
+     * 去掉墓碑文档并重新分配连续编号，倒排表保持有序
+     */
+    private void compact() {
+        int[] remap = new int[maxDoc];
+        int next = 0;
+        for (int doc = 0; doc < maxDoc; doc++) {
+            if (deleted.get(doc)) {
+                remap[doc] = -1;
+                continue;
+            }
+            remap[doc] = next;
+            articleIds[next] = articleIds[doc];
+            categoryIds[next] = categoryIds[doc];
+            docLengths[next] = docLengths[doc];
+            next++;
+        }
+        Iterator<Postings> it = postings.values().iterator();
+        while (it.hasNext()) {
+            Postings list = it.next();
+            list.remap(remap);
+            if (list.size == 0) {
+                it.remove();
+            }
+        }
+        docByArticle.replaceAll((articleId, doc) -> remap[doc]);
+        deleted.clear();
+        maxDoc = next;
+    }
+
+    private static float bm25(int tf, float norm, float idf) {
+        return idf * (tf * (K1 + 1)) / (tf + norm);
+    }
+
+    private static int accumulate(Map<String, int[]> frequencies, String text, int weight) {
+        int[] length = {0};
+        Tokenizer.tokenize(text, token -> {
+            frequencies.computeIfAbsent(token, k -> new int[1])[0] += weight;
+            length[0] += weight;
+        });
+        return length[0];
+    }
+
+    private int allocateDoc() {
+        if (maxDoc == articleIds.length) {
+            int capacity = articleIds.length * 2;
+            articleIds = Arrays.copyOf(articleIds, capacity);
+            categoryIds = Arrays.copyOf(categoryIds, capacity);
+            docLengths = Arrays.copyOf(docLengths, capacity);
+        }
+        return maxDoc++;
+    }
+
+    /**
+     * 单个词项的倒排表：文档编号升序，词频（上限 255）与之平行存放
+     */
+    private static final class Postings {
+        int[] docs = new int[2];
+        byte[] tfs = new byte[2];
+        int size;
+
+        void append(int doc, int tf) {
+            if (size == docs.length) {
+                int capacity = size + (size >> 1) + 1;
+                docs = Arrays.copyOf(docs, capacity);
+                tfs = Arrays.copyOf(tfs, capacity);
+            }
+            docs[size] = doc;
+            tfs[size] = (byte) Math.min(tf, 255);
+            size++;
+        }
+
+        int tf(int pos) {
+            return tfs[pos] & 0xFF;
+        }
+
+        /**
+         * 从 from 开始查找 doc，找到返回位置，否则返回 -(插入点) - 1
+         */
+        int seek(int doc, int from) {
+            return Arrays.binarySearch(docs, Math.min(from, size), size, doc);
+        }
+
+        void remap(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = remap[docs[i]];
+                if (doc >= 0) {
+                    docs[kept] = doc;
+                    tfs[kept] = tfs[i];
+                    kept++;
+                }
+            }
+            size = kept;
+        }
+    }
+
+    private static final class ScoredDoc implements Comparable<ScoredDoc> {
+        final long articleId;
+        final float score;
+
+        ScoredDoc(long articleId, float score) {
+            this.articleId = articleId;
+            this.score = score;
+        }
+
+        @Override
+        public int compareTo(ScoredDoc other) {
+            return Float.compare(score, other.score);
+        }
+    }
+
+    static final class SearchHits {
+        static final SearchHits EMPTY = new SearchHits(new long[0], 0);
+
+        final long[] articleIds;
+        final int total;
+
+        SearchHits(long[] articleIds, int total) {
+            this.articleIds = articleIds;
+            this.total = total;
+        }
+    }
+}
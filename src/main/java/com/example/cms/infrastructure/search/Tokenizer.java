@@ -0,0 +1,87 @@
+package com.example.cms.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 全文检索分词器：拉丁字母与数字按连续串切分并转小写，中日韩文本按二元组（bigram）切分
+ * 建索引时中日韩文本的每个字另外作为一元词输出，单字查询也能命中长串中间的字；
+ * 查询时只有单独一个字才按一元词查找，多字查询仍按二元组匹配
+ */
+public final class Tokenizer {
+
+    private Tokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        tokenize(text, tokens::add);
+        return tokens;
+    }
+
+    /**
+     * 建索引用：中日韩文本输出全部二元组和一元词
+     */
+    public static void tokenize(String text, Consumer<String> sink) {
+        tokenize(text, true, sink);
+    }
+
+    /**
+     * 查询用：中日韩文本只在单独一个字时输出一元词
+     */
+    public static List<String> tokenizeQuery(String text) {
+        List<String> tokens = new ArrayList<>();
+        tokenize(text, false, tokens::add);
+        return tokens;
+    }
+
+    private static void tokenize(String text, boolean unigrams, Consumer<String> sink) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (isCjk(c)) {
+                int start = i;
+                while (i < length && isCjk(text.charAt(i))) {
+                    i++;
+                }
+                emitCjk(text, start, i, unigrams, sink);
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && Character.isLetterOrDigit(text.charAt(i)) && !isCjk(text.charAt(i))) {
+                    i++;
+                }
+                sink.accept(text.substring(start, i).toLowerCase());
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private static void emitCjk(String text, int start, int end, boolean unigrams, Consumer<String> sink) {
+        if (end - start == 1) {
+            sink.accept(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i < end; i++) {
+            if (unigrams) {
+                sink.accept(text.substring(i, i + 1));
+            }
+            if (i + 1 < end) {
+                sink.accept(text.substring(i, i + 2));
+            }
+        }
+    }
+
+    static boolean isCjk(char c) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.cms.infrastructure.snapshot;
+
+import com.example.cms.domain.model.article.Article;
+import com.example.cms.domain.model.article.ArticleSummary;
+import org.springframework.web.util.HtmlUtils;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 静态快照页面模板，生成不依赖前端资源的独立 HTML
+ */
+final class SnapshotPages {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final String STYLE = "body{max-width:760px;margin:0 auto;padding:24px 16px;"
+            + "font-family:-apple-system,'PingFang SC','Microsoft YaHei',sans-serif;line-height:1.7;color:#222}"
+            + "a{color:#1769aa;text-decoration:none}header,footer{color:#888;font-size:14px}"
+            + "pre{background:#f6f8fa;padding:12px;overflow:auto}img{max-width:100%}"
+            + "li{margin:12px 0}li p{margin:4px 0;color:#555}";
+
+    private SnapshotPages() {
+    }
+
+    static String article(Article article, Long categoryId, String categoryName) {
+        StringBuilder html = head(article.getTitle());
+        html.append("<header><a href=\"/pages/index.html\">首页</a> / <a href=\"")
+                .append(SnapshotPaths.categoryUrl(categoryId)).append("\">").append(escape(categoryName)).append("</a>");
+        if (article.getPublishedAt() != null) {
+            html.append(" · ").append(format(article.getPublishedAt()));
+        }
+        html.append("</header>\n<article>\n<h1>").append(escape(article.getTitle())).append("</h1>\n")
+                .append(article.getRenderedContent().getHtml())
+                .append("\n</article>\n");
+        return tail(html);
+    }
+
+    static String listing(String title, List<ArticleSummary> articles) {
+        StringBuilder html = head(title);
+        html.append("<header><a href=\"/pages/index.html\">首页</a></header>\n<h1>")
+                .append(escape(title)).append("</h1>\n<ul>\n");
+        for (ArticleSummary summary : articles) {
+            html.append("<li><a href=\"").append(SnapshotPaths.articleUrl(summary.getId())).append("\">")
+                    .append(escape(summary.getTitle())).append("</a>");
+            if (summary.getPublishedAt() != null) {
+                html.append(" <small>").append(format(summary.getPublishedAt())).append("</small>");
+            }
+            html.append("<p>").append(escape(summary.getDigest().getExcerpt())).append("</p></li>\n");
+        }
+        html.append("</ul>\n");
+        return tail(html);
+    }
+
+    private static StringBuilder head(String title) {
+        return new StringBuilder(4096)
+                .append("<!DOCTYPE html>\n<html lang=\"zh-CN\">\n<head>\n<meta charset=\"UTF-8\">\n")
+                .append("<meta name=\"viewport\" content=\"width=device-width, initial-scale=1\">\n<title>")
+                .append(escape(title)).append("</title>\n<style>").append(STYLE).append("</style>\n</head>\n<body>\n");
+    }
+
+    private static String tail(StringBuilder html) {
+        return html.append("</body>\n</html>\n").toString();
+    }
+
+    private static String format(LocalDateTime time) {
+        return DATE_FORMAT.format(time);
+    }
+
+    private static String escape(String text) {
+        return text != null ? HtmlUtils.htmlEscape(text, "UTF-8") : "";
+    }
+}
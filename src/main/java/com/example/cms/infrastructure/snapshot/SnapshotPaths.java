@@ -0,0 +1,31 @@
+package com.example.cms.infrastructure.snapshot;
+
+/**
+ * 快照文件相对路径与对外 URL 的对应关系：/pages/{相对路径}
+ */
+public final class SnapshotPaths {
+
+    public static final String URL_PREFIX = "/pages/";
+    static final String INDEX = "index.html";
+    static final String ARTICLES_DIR = "articles";
+    static final String CATEGORIES_DIR = "categories";
+
+    private SnapshotPaths() {
+    }
+
+    static String article(Long id) {
+        return ARTICLES_DIR + "/" + id + ".html";
+    }
+
+    static String category(Long id) {
+        return CATEGORIES_DIR + "/" + id + ".html";
+    }
+
+    static String articleUrl(Long id) {
+        return URL_PREFIX + article(id);
+    }
+
+    static String categoryUrl(Long id) {
+        return URL_PREFIX + category(id);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.cms.infrastructure.snapshot;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * 直接从磁盘输出静态快照，不经过 Spring MVC
+ * 先打开文件再从同一句柄取长度并用 FileChannel.transferTo 写出：发布以原子改名替换文件，已打开的句柄仍指向旧文件，
+ * Content-Length 与发送的字节总是一致。容器的 sendfile 只接受文件名、会按路径重新打开，因此不使用
+ */
+public class StaticSnapshotFilter extends OncePerRequestFilter {
+
+    private static final String CACHE_CONTROL = "public, max-age=60";
+
+    private final Path root;
+
+    public StaticSnapshotFilter(Path root) {
+        this.root = root;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !("GET".equals(method) || "HEAD".equals(method))
+                || !request.getRequestURI().startsWith(request.getContextPath() + SnapshotPaths.URL_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String relative = request.getRequestURI()
+                .substring(request.getContextPath().length() + SnapshotPaths.URL_PREFIX.length());
+        if (relative.isEmpty()) {
+            relative = SnapshotPaths.INDEX;
+        }
+        Path file = root.resolve(relative).normalize();
+        if (!file.startsWith(root) || !relative.endsWith(".html")) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (!attributes.isRegularFile()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        // 修改时间在打开文件之前读取，期间文件被替换时只会偏旧，客户端下次会重新获取
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        long ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        // HTTP 日期精确到秒
+        if (ifModifiedSince >= 0 && lastModified / 1000 <= ifModifiedSince / 1000) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (IOException e) {
+            // 读取属性之后文件被删除
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        try (channel) {
+            long length = channel.size();
+            response.setContentType("text/html;charset=UTF-8");
+            response.setContentLengthLong(length);
+            if ("HEAD".equals(request.getMethod())) {
+                return;
+            }
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < length) {
+                long sent = channel.transferTo(position, length - position, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+            }
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package com.example.cms.infrastructure.snapshot;
+
+import com.example.cms.application.event.ArticleChangedEvent;
+import com.example.cms.application.event.CategoryChangedEvent;
+import com.example.cms.domain.model.article.Article;
+import com.example.cms.domain.model.article.ArticleStatus;
+import com.example.cms.domain.model.article.ArticleSummary;
+import com.example.cms.domain.model.category.Category;
+import com.example.cms.domain.repository.ArticleRepository;
+import com.example.cms.domain.repository.CategoryRepository;
+import com.example.cms.infrastructure.cache.CategoryNameDirectory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 已发布文章与分类列表的静态 HTML 快照
+ * 文章、分类写操作事务提交后交给单个后台线程增量重写或删除对应文件，只涉及受影响的文章、分类列表与首页；
+ * 增量任务按提交顺序逐个执行并在执行时读取最新数据，同一文件的写入不会乱序覆盖
+ * 全量重建按批并行生成并清理过期文件；文件先写临时文件再原子替换，读取方不会看到半个文件
+ */
+@Component
+@Slf4j
+public class StaticSnapshotPublisher {
+
+    private static final int REBUILD_BATCH_SIZE = 100;
+    private static final String UNKNOWN_CATEGORY = "未知分类";
+    private static final String INDEX_TITLE = "最新文章";
+    private static final Comparator<ArticleSummary> NEWEST_FIRST = Comparator.comparing(
+            ArticleSummary::getPublishedAt, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final ArticleRepository articleRepository;
+    private final CategoryRepository categoryRepository;
+    private final CategoryNameDirectory categoryNameDirectory;
+    private final boolean enabled;
+    private final Path root;
+    private final int parallelism;
+    private final int indexSize;
+
+    /** 增量更新持读锁，全量重建持写锁，避免重建用旧数据覆盖刚提交的更新 */
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    /** 已发布文章 ID → 快照中列出它的分类，文章删除或换分类后据此只重写原分类列表 */
+    private final Map<Long, Long> listedCategories = new ConcurrentHashMap<>();
+
+    private final ExecutorService updates = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "snapshot-update");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public StaticSnapshotPublisher(
+            ArticleRepository articleRepository,
+            CategoryRepository categoryRepository,
+            CategoryNameDirectory categoryNameDirectory,
+            @Value("${cms.snapshot.enabled:true}") boolean enabled,
+            @Value("${cms.snapshot.directory:${java.io.tmpdir}/cms-snapshots}") String directory,
+            @Value("${cms.snapshot.rebuild-parallelism:4}") int parallelism,
+            @Value("${cms.snapshot.index-size:50}") int indexSize) {
+        this.articleRepository = articleRepository;
+        this.categoryRepository = categoryRepository;
+        this.categoryNameDirectory = categoryNameDirectory;
+        this.enabled = enabled;
+        this.root = Paths.get(directory).toAbsolutePath().normalize();
+        this.parallelism = Math.max(1, parallelism);
+        this.indexSize = Math.max(1, indexSize);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            RebuildResult result = rebuildAll();
+            log.info("静态快照生成完成: {} 篇文章, {} 个分类, 耗时 {} ms, 目录 {}",
+                    result.getArticles(), result.getCategories(), result.getElapsedMillis(), root);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        // 新建的文章总是草稿，不影响任何已发布页面
+        if (!enabled || event.getChangeType() == ArticleChangedEvent.ChangeType.CREATED) {
+            return;
+        }
+        submit(() -> updateArticles(event));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        CategoryChangedEvent.ChangeType type = event.getChangeType();
+        if (!enabled || type == CategoryChangedEvent.ChangeType.MOVED || type == CategoryChangedEvent.ChangeType.REORDERED) {
+            return;
+        }
+        submit(() -> updateCategories(event));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        updates.shutdown();
+    }
+
+    private void submit(Runnable task) {
+        try {
+            updates.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.debug("应用关闭中，跳过静态快照更新");
+        }
+    }
+
+    /**
+     * 重写仍已发布的文章页，删除其余文章页；只重写文章当前与之前所在的分类列表，
+     * 只有已发布内容变化时才重写首页
+     */
+    private void updateArticles(ArticleChangedEvent event) {
+        rebuildLock.readLock().lock();
+        try {
+            Set<Long> categoryIds = new LinkedHashSet<>();
+            boolean indexChanged = false;
+            Map<Long, Article> articles = new LinkedHashMap<>();
+            articleRepository.findByIds(event.getArticleIds()).forEach(a -> articles.put(a.getId(), a));
+            for (Long id : event.getArticleIds()) {
+                Article article = articles.get(id);
+                Long previousCategoryId;
+                if (article != null && article.getStatus() == ArticleStatus.PUBLISHED) {
+                    writeArticle(article);
+                    previousCategoryId = listedCategories.put(id, article.getCategoryId());
+                    categoryIds.add(article.getCategoryId());
+                    indexChanged = true;
+                } else {
+                    delete(SnapshotPaths.article(id));
+                    previousCategoryId = listedCategories.remove(id);
+                    indexChanged |= previousCategoryId != null;
+                }
+                if (previousCategoryId != null) {
+                    categoryIds.add(previousCategoryId);
+                }
+            }
+            categoryIds.forEach(categoryId -> writeListing(categoryId,
+                    categoryNameDirectory.nameOf(categoryId, UNKNOWN_CATEGORY)));
+            if (indexChanged) {
+                writeIndex();
+            }
+        } catch (RuntimeException e) {
+            log.warn("静态快照更新失败: {} {}", event.getChangeType(), event.getArticleIds(), e);
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    private void updateCategories(CategoryChangedEvent event) {
+        CategoryChangedEvent.ChangeType type = event.getChangeType();
+        rebuildLock.readLock().lock();
+        try {
+            if (type == CategoryChangedEvent.ChangeType.DELETED) {
+                event.getCategoryIds().forEach(id -> delete(SnapshotPaths.category(id)));
+                return;
+            }
+            // 分类名出现在列表标题与文章页导航中；名称直接从数据库读取，不依赖名称目录的监听顺序
+            for (Category category : categoryRepository.findByIds(event.getCategoryIds())) {
+                List<ArticleSummary> summaries = writeListing(category.getId(), category.getName());
+                if (type == CategoryChangedEvent.ChangeType.UPDATED && !summaries.isEmpty()) {
+                    List<Long> ids = summaries.stream().map(ArticleSummary::getId).toList();
+                    articleRepository.findByIds(ids).forEach(article -> writeArticle(article, category.getName()));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("静态快照更新失败: 分类 {} {}", type, event.getCategoryIds(), e);
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 全量重建：按批读取已发布文章并行写入，分类列表与首页由同一份摘要在内存中分组生成，最后删除不再对应已发布内容的文件
+     */
+    public RebuildResult rebuildAll() {
+        if (!enabled) {
+            throw new IllegalArgumentException("静态快照未启用");
+        }
+        long start = System.currentTimeMillis();
+        rebuildLock.writeLock().lock();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "snapshot-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<ArticleSummary> published = articleRepository.findSummariesByStatus(ArticleStatus.PUBLISHED);
+            List<Category> categories = categoryRepository.findAll();
+            Set<String> written = ConcurrentHashMap.newKeySet();
+
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int from = 0; from < published.size(); from += REBUILD_BATCH_SIZE) {
+                List<Long> batch = published.subList(from, Math.min(from + REBUILD_BATCH_SIZE, published.size()))
+                        .stream().map(ArticleSummary::getId).toList();
+                tasks.add(executor.submit(() -> {
+                    for (Article article : articleRepository.findByIds(batch)) {
+                        if (article.getStatus() == ArticleStatus.PUBLISHED) {
+                            writeArticle(article);
+                            written.add(SnapshotPaths.article(article.getId()));
+                        }
+                    }
+                }));
+            }
+
+            Map<Long, List<ArticleSummary>> byCategory = new LinkedHashMap<>();
+            for (ArticleSummary summary : published) {
+                byCategory.computeIfAbsent(summary.getCategoryId(), k -> new ArrayList<>()).add(summary);
+            }
+            for (Category category : categories) {
+                List<ArticleSummary> summaries = byCategory.getOrDefault(category.getId(), List.of());
+                tasks.add(executor.submit(() -> {
+                    write(SnapshotPaths.category(category.getId()), SnapshotPages.listing(category.getName(), summaries));
+                    written.add(SnapshotPaths.category(category.getId()));
+                }));
+            }
+            tasks.add(executor.submit(this::writeIndex));
+            written.add(SnapshotPaths.INDEX);
+
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+            listedCategories.clear();
+            published.forEach(summary -> listedCategories.put(summary.getId(), summary.getCategoryId()));
+            int removed = removeStale(written);
+            if (removed > 0) {
+                log.info("删除 {} 个过期静态快照", removed);
+            }
+            return new RebuildResult(published.size(), categories.size(), System.currentTimeMillis() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("静态快照重建被中断", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("静态快照重建失败: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    private void writeArticle(Article article) {
+        writeArticle(article, categoryNameDirectory.nameOf(article.getCategoryId(), UNKNOWN_CATEGORY));
+    }
+
+    private void writeArticle(Article article, String categoryName) {
+        write(SnapshotPaths.article(article.getId()), SnapshotPages.article(article, article.getCategoryId(), categoryName));
+    }
+
+    private List<ArticleSummary> writeListing(Long categoryId, String categoryName) {
+        List<ArticleSummary> summaries = new ArrayList<>(
+                articleRepository.findSummariesByCategoryIdAndStatus(categoryId, ArticleStatus.PUBLISHED));
+        summaries.sort(NEWEST_FIRST);
+        write(SnapshotPaths.category(categoryId), SnapshotPages.listing(categoryName, summaries));
+        return summaries;
+    }
+
+    /**
+     * 首页只列最新发布的 indexSize 篇，与文章总数无关
+     */
+    private void writeIndex() {
+        write(SnapshotPaths.INDEX, SnapshotPages.listing(INDEX_TITLE,
+                articleRepository.findPublishedAfter(null, null, false, indexSize)));
+    }
+
+    private void write(String relativePath, String html) {
+        Path target = root.resolve(relativePath);
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), ".snapshot-", ".tmp");
+            try {
+                Files.writeString(temp, html, StandardCharsets.UTF_8);
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("写入静态快照失败: " + target, e);
+        }
+    }
+
+    private void delete(String relativePath) {
+        try {
+            Files.deleteIfExists(root.resolve(relativePath));
+        } catch (IOException e) {
+            throw new UncheckedIOException("删除静态快照失败: " + relativePath, e);
+        }
+    }
+
+    private int removeStale(Set<String> written) {
+        int removed = 0;
+        for (String dir : List.of(SnapshotPaths.ARTICLES_DIR, SnapshotPaths.CATEGORIES_DIR)) {
+            Path path = root.resolve(dir);
+            if (!Files.isDirectory(path)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.list(path)) {
+                for (Path file : files.toList()) {
+                    if (!written.contains(dir + "/" + file.getFileName())) {
+                        Files.deleteIfExists(file);
+                        removed++;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("清理静态快照失败: " + path, e);
+            }
+        }
+        return removed;
+    }
+
+    @lombok.Value
+    public static class RebuildResult {
+        int articles;
+        int categories;
+        long elapsedMillis;
+    }
+}
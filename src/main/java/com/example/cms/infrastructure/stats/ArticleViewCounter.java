@@ -0,0 +1,115 @@
+package com.example.cms.infrastructure.stats;
+
+import com.example.cms.application.event.ArticleChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 文章阅读数的内存计数器
+ * 每篇文章一个 LongAdder，计数时不访问数据库；定时与关闭时在同一事务内批量累加到 articles.view_count
+ * 写库成功后只扣减本次写入的量，期间新增的计数留到下一轮；写库失败则全部保留重试
+ */
+@Component
+@Slf4j
+public class ArticleViewCounter {
+
+    private static final String FLUSH_SQL = "UPDATE articles SET view_count = view_count + ? WHERE id = ?";
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public ArticleViewCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void record(Long articleId) {
+        LongAdder adder = pending.get(articleId);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(articleId, id -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    /**
+     * 尚未写入数据库的阅读数
+     */
+    public long pending(Long articleId) {
+        LongAdder adder = pending.get(articleId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    @Scheduled(fixedDelayString = "${cms.view-counter.flush-interval-ms:5000}")
+    public synchronized int flush() {
+        List<Delta> deltas = new ArrayList<>();
+        pending.forEach((articleId, adder) -> {
+            long count = adder.sum();
+            if (count > 0) {
+                deltas.add(new Delta(articleId, adder, count));
+            }
+        });
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        // 按主键顺序更新，行锁获取顺序固定
+        deltas.sort(Comparator.comparingLong(delta -> delta.articleId));
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, deltas, FLUSH_BATCH_SIZE,
+                    (ps, delta) -> {
+                        ps.setLong(1, delta.count);
+                        ps.setLong(2, delta.articleId);
+                    }));
+        } catch (DataAccessException e) {
+            log.warn("阅读数写入失败，{} 篇文章的计数保留到下次重试", deltas.size(), e);
+            return 0;
+        }
+        for (Delta delta : deltas) {
+            delta.adder.add(-delta.count);
+        }
+        log.debug("阅读数已写入: {} 篇文章", deltas.size());
+        return deltas.size();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        if (flushed > 0) {
+            log.info("关闭前写入 {} 篇文章的阅读数", flushed);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getChangeType() == ArticleChangedEvent.ChangeType.DELETED) {
+            event.getArticleIds().forEach(pending::remove);
+        }
+    }
+
+    private static final class Delta {
+        final long articleId;
+        final LongAdder adder;
+        final long count;
+
+        Delta(long articleId, LongAdder adder, long count) {
+            this.articleId = articleId;
+            this.adder = adder;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.cms.infrastructure.stats;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 带指数时间衰减的 Space-Saving 热点统计，最多跟踪 capacity 个键，内存与键总数无关
+ * 衰减采用前向衰减：t 时刻的一次命中记权重 2^((t - landmark) / halfLife)，相对大小与整体衰减等价，
+ * 指数过大时把全部计数按同一比例缩小并前移 landmark。计数用最小堆维护，替换最小项为 O(log capacity)
+ * 非线程安全，由调用方加锁
+ */
+final class DecayedSpaceSaving {
+
+    /** 权重指数超过该值时整体缩放，避免 double 溢出 */
+    private static final double MAX_EXPONENT = 64;
+
+    private final int capacity;
+    private final double halfLifeMillis;
+    private final Map<Long, Integer> slots;
+    private final long[] keys;
+    private final double[] counts;
+    private int size;
+    private long landmark;
+
+    DecayedSpaceSaving(int capacity, long halfLifeMillis, long now) {
+        this.capacity = capacity;
+        this.halfLifeMillis = halfLifeMillis;
+        this.slots = new HashMap<>(capacity * 2);
+        this.keys = new long[capacity];
+        this.counts = new double[capacity];
+        this.landmark = now;
+    }
+
+    /**
+     * 一次记入 hits 次在 now 时刻的命中
+     */
+    void offer(long key, long hits, long now) {
+        double exponent = (now - landmark) / halfLifeMillis;
+        if (exponent > MAX_EXPONENT) {
+            rescale(now);
+            exponent = 0;
+        }
+        double weight = hits * Math.pow(2, exponent);
+        Integer slot = slots.get(key);
+        if (slot != null) {
+            counts[slot] += weight;
+            siftDown(slot);
+            return;
+        }
+        if (size < capacity) {
+            keys[size] = key;
+            counts[size] = weight;
+            slots.put(key, size);
+            siftUp(size++);
+            return;
+        }
+        // 替换当前最小项，新键继承其计数（Space-Saving 的高估上界）
+        slots.remove(keys[0]);
+        keys[0] = key;
+        counts[0] += weight;
+        slots.put(key, 0);
+        siftDown(0);
+    }
+
+    /**
+     * 按计数降序返回最多 limit 个键，计数已换算为 now 时刻的衰减值
+     */
+    Entry[] top(int limit, long now) {
+        Entry[] entries = new Entry[size];
+        double scale = Math.pow(2, -(now - landmark) / halfLifeMillis);
+        for (int i = 0; i < size; i++) {
+            entries[i] = new Entry(keys[i], counts[i] * scale);
+        }
+        Arrays.sort(entries, (a, b) -> Double.compare(b.score, a.score));
+        return entries.length > limit ? Arrays.copyOf(entries, limit) : entries;
+    }
+
+    void remove(long key) {
+        Integer slot = slots.remove(key);
+        if (slot == null) {
+            return;
+        }
+        int last = --size;
+        if (slot != last) {
+            move(last, slot);
+            siftDown(slot);
+            siftUp(slot);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void rescale(long now) {
+        double factor = Math.pow(2, -(now - landmark) / halfLifeMillis);
+        for (int i = 0; i < size; i++) {
+            counts[i] *= factor;
+        }
+        landmark = now;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (counts[parent] <= counts[i]) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left + 1 < size && counts[left + 1] < counts[left] ? left + 1 : left;
+            if (counts[i] <= counts[smallest]) {
+                return;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long key = keys[a];
+        double count = counts[a];
+        keys[a] = keys[b];
+        counts[a] = counts[b];
+        keys[b] = key;
+        counts[b] = count;
+        slots.put(keys[a], a);
+        slots.put(keys[b], b);
+    }
+
+    private void move(int from, int to) {
+        keys[to] = keys[from];
+        counts[to] = counts[from];
+        slots.put(keys[to], to);
+    }
+
+    static final class Entry {
+        final long key;
+        final double score;
+
+        Entry(long key, double score) {
+            this.key = key;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.cms.infrastructure.stats;
+
+import com.example.cms.application.event.ArticleChangedEvent;
+import com.example.cms.domain.model.article.ArticleStatus;
+import com.example.cms.domain.model.article.ArticleSummary;
+import com.example.cms.domain.repository.ArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 热门文章：阅读命中先累加到每篇文章一个的 LongAdder，不加锁；定时任务把这段时间的命中并入带时间衰减的
+ * Space-Saving 统计并生成快照，接口只读快照。命中按并入时刻计算衰减，误差不超过一个刷新间隔
+ * 分类榜单从全站候选中按分类分组得到，跟踪的键数固定为 capacity
+ */
+@Component
+@Slf4j
+public class TrendingArticles {
+
+    public static final int MAX_SIZE = 50;
+
+    private final ArticleRepository articleRepository;
+    private final int capacity;
+    private final DecayedSpaceSaving sketch;
+    private final ConcurrentHashMap<Long, LongAdder> pendingHits = new ConcurrentHashMap<>();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public TrendingArticles(
+            ArticleRepository articleRepository,
+            @Value("${cms.trending.capacity:2048}") int capacity,
+            @Value("${cms.trending.half-life:1h}") Duration halfLife) {
+        this.articleRepository = articleRepository;
+        this.capacity = capacity;
+        this.sketch = new DecayedSpaceSaving(capacity, halfLife.toMillis(), System.currentTimeMillis());
+    }
+
+    public void record(Long articleId) {
+        LongAdder hits = pendingHits.get(articleId);
+        if (hits == null) {
+            hits = pendingHits.computeIfAbsent(articleId, id -> new LongAdder());
+        }
+        hits.increment();
+    }
+
+    /**
+     * 热门文章，categoryId 为 null 表示全站
+     */
+    public List<ArticleSummary> top(Long categoryId, int size) {
+        List<ArticleSummary> ranked = categoryId == null
+                ? snapshot.global
+                : snapshot.byCategory.getOrDefault(categoryId, List.of());
+        return ranked.size() > size ? ranked.subList(0, size) : ranked;
+    }
+
+    @Scheduled(fixedDelayString = "${cms.trending.refresh-interval-ms:30000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        DecayedSpaceSaving.Entry[] candidates;
+        synchronized (sketch) {
+            foldPendingHits(now);
+            candidates = sketch.top(capacity, now);
+        }
+        if (candidates.length == 0) {
+            snapshot = Snapshot.EMPTY;
+            return;
+        }
+        List<Long> ids = new ArrayList<>(candidates.length);
+        for (DecayedSpaceSaving.Entry entry : candidates) {
+            ids.add(entry.key);
+        }
+        Map<Long, ArticleSummary> summaries = articleRepository.findSummariesByIds(ids).stream()
+                .filter(summary -> summary.getStatus() == ArticleStatus.PUBLISHED)
+                .collect(Collectors.toMap(ArticleSummary::getId, Function.identity()));
+
+        List<ArticleSummary> global = new ArrayList<>(MAX_SIZE);
+        Map<Long, List<ArticleSummary>> byCategory = new HashMap<>();
+        for (Long id : ids) {
+            ArticleSummary summary = summaries.get(id);
+            if (summary == null) {
+                continue;
+            }
+            if (global.size() < MAX_SIZE) {
+                global.add(summary);
+            }
+            List<ArticleSummary> category = byCategory.computeIfAbsent(summary.getCategoryId(), k -> new ArrayList<>());
+            if (category.size() < MAX_SIZE) {
+                category.add(summary);
+            }
+        }
+        byCategory.replaceAll((k, v) -> List.copyOf(v));
+        snapshot = new Snapshot(List.copyOf(global), Map.copyOf(byCategory));
+        log.debug("热门文章快照已刷新: 候选 {} 篇, 分类 {} 个", candidates.length, byCategory.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        ArticleChangedEvent.ChangeType type = event.getChangeType();
+        if (type != ArticleChangedEvent.ChangeType.DELETED && type != ArticleChangedEvent.ChangeType.UNPUBLISHED) {
+            return;
+        }
+        if (type == ArticleChangedEvent.ChangeType.DELETED) {
+            synchronized (sketch) {
+                event.getArticleIds().forEach(id -> {
+                    pendingHits.remove(id);
+                    sketch.remove(id);
+                });
+            }
+        }
+        // 下线的文章立即从快照中移除，不等下一次刷新
+        snapshot = snapshot.without(new HashSet<>(event.getArticleIds()));
+    }
+
+    /**
+     * 把上次刷新以来的命中并入统计；本轮没有命中的文章移除计数器，
+     * 与之并发的一次命中可能随之丢弃，对热门榜单可以接受
+     */
+    private void foldPendingHits(long now) {
+        for (Map.Entry<Long, LongAdder> entry : pendingHits.entrySet()) {
+            long hits = entry.getValue().sumThenReset();
+            if (hits == 0) {
+                pendingHits.remove(entry.getKey(), entry.getValue());
+            } else {
+                sketch.offer(entry.getKey(), hits, now);
+            }
+        }
+    }
+
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(List.of(), Map.of());
+
+        final List<ArticleSummary> global;
+        final Map<Long, List<ArticleSummary>> byCategory;
+
+        Snapshot(List<ArticleSummary> global, Map<Long, List<ArticleSummary>> byCategory) {
+            this.global = global;
+            this.byCategory = byCategory;
+        }
+
+        Snapshot without(Set<Long> ids) {
+            Map<Long, List<ArticleSummary>> filtered = new HashMap<>();
+            byCategory.forEach((categoryId, list) -> filtered.put(categoryId, filter(list, ids)));
+            return new Snapshot(filter(global, ids), Map.copyOf(filtered));
+        }
+
+        private static List<ArticleSummary> filter(List<ArticleSummary> list, Set<Long> ids) {
+            return list.stream().filter(summary -> !ids.contains(summary.getId())).toList();
+        }
+    }
+}
@@ -1,16 +1,29 @@
 package com.example.cms.presentation.controller.admin;
 
+import com.example.cms.application.service.ArticleImportService;
 import com.example.cms.application.service.ArticleService;
-import com.example.cms.application.service.CategoryService;
 import com.example.cms.domain.model.article.Article;
-import com.example.cms.domain.model.category.Category;
+import com.example.cms.domain.model.article.ArticleSummary;
+import com.example.cms.infrastructure.cache.CategoryNameDirectory;
 import com.example.cms.presentation.dto.ApiResponse;
+import com.example.cms.presentation.dto.ArticleImportResultResponse;
+import com.example.cms.presentation.dto.ArticleImportSummaryResponse;
 import com.example.cms.presentation.dto.ArticleRequest;
 import com.example.cms.presentation.dto.ArticleResponse;
+import com.example.cms.presentation.dto.ArticleSummaryResponse;
 import com.example.cms.presentation.dto.ChangeCategoryRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -18,14 +31,18 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AdminArticleController {
 
+    private static final String UNKNOWN_CATEGORY = "未知分类";
+
     private final ArticleService articleService;
-    private final CategoryService categoryService;
+    private final ArticleImportService articleImportService;
+    private final CategoryNameDirectory categoryNameDirectory;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ApiResponse<List<ArticleResponse>> getAll() {
-        List<Article> articles = articleService.findAll();
+    public ApiResponse<List<ArticleSummaryResponse>> getAll() {
+        List<ArticleSummary> articles = articleService.findSummaries();
         return ApiResponse.success(articles.stream()
-                .map(this::toResponse)
+                .map(this::toSummaryResponse)
                 .toList());
     }
 
@@ -47,6 +64,30 @@ public class AdminArticleController {
         return ApiResponse.success(toResponse(article));
     }
 
+    /**
+     * NDJSON 批量导入：请求体每行一篇文章，边读边导入；响应同为 NDJSON，每批提交后输出该批各行结果，最后一行为汇总
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importArticles(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        ServletOutputStream out = response.getOutputStream();
+        ArticleImportService.Summary summary = articleImportService.importNdjson(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8),
+                results -> {
+                    try {
+                        for (ArticleImportService.LineResult result : results) {
+                            writeLine(out, ArticleImportResultResponse.from(result));
+                        }
+                        out.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+        writeLine(out, ArticleImportSummaryResponse.from(summary));
+        out.flush();
+    }
+
     @PutMapping("/{id}")
     public ApiResponse<ArticleResponse> update(@PathVariable Long id, @RequestBody ArticleRequest request) {
         Article article = articleService.update(
@@ -85,10 +126,18 @@ public class AdminArticleController {
         return ApiResponse.success(null);
     }
 
+    private void writeLine(ServletOutputStream out, Object value) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(value));
+        out.write('\n');
+    }
+
     private ArticleResponse toResponse(Article article) {
-        String categoryName = categoryService.findById(article.getCategoryId())
-                .map(Category::getName)
-                .orElse("未知分类");
-        return ArticleResponse.from(article, categoryName);
+        return ArticleResponse.from(article,
+                categoryNameDirectory.nameOf(article.getCategoryId(), UNKNOWN_CATEGORY));
+    }
+
+    private ArticleSummaryResponse toSummaryResponse(ArticleSummary summary) {
+        return ArticleSummaryResponse.from(summary,
+                categoryNameDirectory.nameOf(summary.getCategoryId(), UNKNOWN_CATEGORY));
     }
 }
@@ -0,0 +1,85 @@
+package com.example.cms.presentation.controller.admin;
+
+import com.example.cms.application.service.ExportService;
+import com.example.cms.domain.model.article.Article;
+import com.example.cms.domain.model.category.Category;
+import com.example.cms.domain.model.sortorder.SortOrder;
+import com.example.cms.presentation.dto.ArticleExportResponse;
+import com.example.cms.presentation.dto.CategoryResponse;
+import com.example.cms.presentation.dto.ExportRecordResponse;
+import com.example.cms.presentation.dto.SortOrderExportResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/admin/export")
+@RequiredArgsConstructor
+public class AdminExportController {
+
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+    private final ExportService exportService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 以 NDJSON 流式导出分类、排序记录和文章，每行 {"type", "data"}；gzip=true 时整体压缩
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "false") boolean gzip) {
+        StreamingResponseBody body = responseStream -> {
+            OutputStream out = new BufferedOutputStream(
+                    gzip ? new GZIPOutputStream(responseStream, 1 << 16) : responseStream, 1 << 16);
+            try {
+                exportService.export(new ExportService.Sink() {
+                    @Override
+                    public void category(Category category) {
+                        writeLine(out, new ExportRecordResponse("category", CategoryResponse.from(category)));
+                    }
+
+                    @Override
+                    public void sortOrder(SortOrder sortOrder) {
+                        writeLine(out, new ExportRecordResponse("sortOrder", SortOrderExportResponse.from(sortOrder)));
+                    }
+
+                    @Override
+                    public void article(Article article) {
+                        writeLine(out, new ExportRecordResponse("article", ArticleExportResponse.from(article)));
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            // close 会写出 gzip 尾部并刷新缓冲
+            out.close();
+        };
+        return ResponseEntity.ok()
+                .contentType(gzip ? GZIP : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + (gzip ? "export.ndjson.gz" : "export.ndjson") + "\"")
+                .body(body);
+    }
+
+    private void writeLine(OutputStream out, Object value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+        } catch (IOException e) {
+            // 客户端断开等写出失败，中止游标遍历
+            throw new UncheckedIOException(e);
+        }
+    }
+}
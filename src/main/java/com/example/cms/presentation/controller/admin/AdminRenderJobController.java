@@ -0,0 +1,40 @@
+package com.example.cms.presentation.controller.admin;
+
+import com.example.cms.application.service.ArticleRerenderJob;
+import com.example.cms.presentation.dto.ApiResponse;
+import com.example.cms.presentation.dto.RenderJobResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/render-jobs")
+@RequiredArgsConstructor
+public class AdminRenderJobController {
+
+    private final ArticleRerenderJob articleRerenderJob;
+
+    /**
+     * 启动全量重新渲染，任务在后台执行，立即返回
+     */
+    @PostMapping
+    public ApiResponse<RenderJobResponse> start() {
+        try {
+            return ApiResponse.success(RenderJobResponse.from(articleRerenderJob.start()));
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.error(400, e.getMessage());
+        }
+    }
+
+    /**
+     * 最近一次任务的进度与吞吐
+     */
+    @GetMapping("/latest")
+    public ApiResponse<RenderJobResponse> latest() {
+        return articleRerenderJob.latest()
+                .map(job -> ApiResponse.success(RenderJobResponse.from(job)))
+                .orElse(ApiResponse.error("尚未执行过重新渲染任务"));
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.cms.presentation.controller.admin;
+
+import com.example.cms.infrastructure.snapshot.StaticSnapshotPublisher;
+import com.example.cms.presentation.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/snapshots")
+@RequiredArgsConstructor
+public class AdminSnapshotController {
+
+    private final StaticSnapshotPublisher staticSnapshotPublisher;
+
+    @PostMapping("/rebuild")
+    public ApiResponse<StaticSnapshotPublisher.RebuildResult> rebuild() {
+        try {
+            return ApiResponse.success(staticSnapshotPublisher.rebuildAll());
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.error(400, e.getMessage());
+        }
+    }
+}
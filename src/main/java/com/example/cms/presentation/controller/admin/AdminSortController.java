@@ -2,6 +2,7 @@ package com.example.cms.presentation.controller.admin;
 
 import com.example.cms.application.service.SortOrderService;
 import com.example.cms.presentation.dto.ApiResponse;
+import com.example.cms.presentation.dto.MoveSortOrderRequest;
 import com.example.cms.presentation.dto.ReorderRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -19,4 +20,10 @@ public class AdminSortController {
         sortOrderService.reorder(request);
         return ApiResponse.success(null);
     }
+
+    @PutMapping("/move")
+    public ApiResponse<Void> move(@RequestBody @Valid MoveSortOrderRequest request) {
+        sortOrderService.move(request);
+        return ApiResponse.success(null);
+    }
 }
@@ -0,0 +1,59 @@
+package com.example.cms.presentation.controller.admin;
+
+import com.example.cms.application.service.ArticleRenderPipeline;
+import com.example.cms.domain.service.MarkdownRenderer;
+import com.example.cms.infrastructure.cache.PublishedArticleCache;
+import com.example.cms.infrastructure.persistence.ConnectionPoolMetrics;
+import com.example.cms.presentation.dto.ApiResponse;
+import com.example.cms.presentation.dto.CacheStatsResponse;
+import com.example.cms.presentation.dto.ConnectionPoolStatsResponse;
+import com.example.cms.presentation.dto.RenderStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/stats")
+@RequiredArgsConstructor
+public class AdminStatsController {
+
+    private final PublishedArticleCache publishedArticleCache;
+    private final MarkdownRenderer markdownRenderer;
+    private final ArticleRenderPipeline articleRenderPipeline;
+    private final ConnectionPoolMetrics connectionPoolMetrics;
+
+    @GetMapping("/caches")
+    public ApiResponse<List<CacheStatsResponse>> getCacheStats() {
+        return ApiResponse.success(List.of(
+                CacheStatsResponse.from("published-articles",
+                        publishedArticleCache.articleSize(), publishedArticleCache.articleStats()),
+                CacheStatsResponse.from("published-feeds",
+                        publishedArticleCache.feedSize(), publishedArticleCache.feedStats()),
+                CacheStatsResponse.from("published-html",
+                        publishedArticleCache.htmlSize(), publishedArticleCache.htmlStats()),
+                CacheStatsResponse.from("render-documents",
+                        markdownRenderer.documentSize(), markdownRenderer.documentStats()),
+                CacheStatsResponse.from("render-blocks",
+                        markdownRenderer.blockSize(), markdownRenderer.blockStats())
+        ));
+    }
+
+    /**
+     * 异步渲染线程池：队列深度、排队与渲染耗时、队列满时由提交线程自行渲染的次数（rejected）
+     */
+    @GetMapping("/render")
+    public ApiResponse<RenderStatsResponse> getRenderStats() {
+        return ApiResponse.success(RenderStatsResponse.from(articleRenderPipeline.stats()));
+    }
+
+    /**
+     * 数据库连接池：当前活跃/空闲连接、等待线程，以及取连接等待时间与连接占用时间
+     */
+    @GetMapping("/pool")
+    public ApiResponse<ConnectionPoolStatsResponse> getPoolStats() {
+        return ApiResponse.success(ConnectionPoolStatsResponse.from(connectionPoolMetrics.stats()));
+    }
+}
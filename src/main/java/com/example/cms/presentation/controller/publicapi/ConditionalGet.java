@@ -0,0 +1,28 @@
+package com.example.cms.presentation.controller.publicapi;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * 条件请求处理：写入校验头并判断 If-None-Match / If-Modified-Since
+ * 返回 true 时响应已置为 304，控制器直接返回 null 即可
+ */
+final class ConditionalGet {
+
+    /** 允许浏览器与 CDN 缓存，但每次使用前须重新验证 */
+    private static final String CACHE_CONTROL = "public, no-cache";
+
+    private ConditionalGet() {
+    }
+
+    static boolean notModified(ServletWebRequest request, String etag, long lastModifiedMillis) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        return request.checkNotModified(etag, lastModifiedMillis);
+    }
+
+    static String etag(String prefix, Long id, long version) {
+        return "\"" + prefix + "-" + id + "-" + Long.toHexString(version) + "\"";
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.cms.presentation.controller.publicapi;
+
+/**
+ * 按 Accept-Encoding（含 q 值）选择响应编码，同等权重时优先 gzip
+ * 同一编码重复出现时取最大的 q 值，结果与出现顺序无关
+ */
+enum ContentCoding {
+    GZIP("gzip"),
+    DEFLATE("deflate"),
+    IDENTITY(null);
+
+    private final String headerValue;
+
+    ContentCoding(String headerValue) {
+        this.headerValue = headerValue;
+    }
+
+    String headerValue() {
+        return headerValue;
+    }
+
+    static ContentCoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return IDENTITY;
+        }
+        float gzip = 0f;
+        float deflate = 0f;
+        float wildcard = -1f;
+        boolean gzipListed = false;
+        boolean deflateListed = false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.split(";");
+            String coding = tokens[0].trim().toLowerCase();
+            float q = quality(tokens);
+            switch (coding) {
+                case "gzip", "x-gzip" -> {
+                    gzip = Math.max(gzip, q);
+                    gzipListed = true;
+                }
+                case "deflate" -> {
+                    deflate = Math.max(deflate, q);
+                    deflateListed = true;
+                }
+                case "*" -> wildcard = Math.max(wildcard, q);
+                default -> {
+                }
+            }
+        }
+        if (!gzipListed && wildcard > 0) {
+            gzip = wildcard;
+        }
+        if (!deflateListed && wildcard > 0) {
+            deflate = wildcard;
+        }
+        if (gzip > 0 && gzip >= deflate) {
+            return GZIP;
+        }
+        return deflate > 0 ? DEFLATE : IDENTITY;
+    }
+
+    private static float quality(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String param = tokens[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Float.parseFloat(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0f;
+                }
+            }
+        }
+        return 1f;
+    }
+}
@@ -1,64 +1,157 @@
 package com.example.cms.presentation.controller.publicapi;
 
 import com.example.cms.application.service.ArticleService;
-import com.example.cms.application.service.CategoryService;
 import com.example.cms.domain.model.article.Article;
-import com.example.cms.domain.model.category.Category;
+import com.example.cms.domain.model.article.ArticleSummary;
+import com.example.cms.domain.model.article.ArticleVersion;
+import com.example.cms.domain.model.article.CompressedHtml;
+import com.example.cms.domain.model.article.FeedPage;
+import com.example.cms.infrastructure.cache.CategoryNameDirectory;
 import com.example.cms.presentation.dto.ApiResponse;
 import com.example.cms.presentation.dto.ArticleResponse;
+import com.example.cms.presentation.dto.ArticleSummaryResponse;
+import com.example.cms.presentation.dto.CursorPageResponse;
+import com.example.cms.presentation.dto.ViewCountResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/public/articles")
 @RequiredArgsConstructor
 public class PublicArticleController {
 
+    private static final String UNKNOWN_CATEGORY = "未知分类";
+
     private final ArticleService articleService;
-    private final CategoryService categoryService;
+    private final CategoryNameDirectory categoryNameDirectory;
 
+    /**
+     * 已发布文章列表，按发布时间倒序键集分页；不传 cursor 时返回首页，nextCursor 用于取下一页
+     */
     @GetMapping
-    public ApiResponse<List<ArticleResponse>> getPublished(
-            @RequestParam(required = false) Long categoryId) {
-        List<Article> articles = categoryId != null
-                ? articleService.findByCategory(categoryId)
-                : articleService.findPublished();
+    public ApiResponse<CursorPageResponse<ArticleSummaryResponse>> getPublished(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "false") boolean includeSubcategories) {
+        try {
+            FeedPage<ArticleSummary> page = articleService.findPublishedPage(cursor, categoryId, includeSubcategories, size);
+            return ApiResponse.success(CursorPageResponse.from(page, this::toSummaryResponse));
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.error(400, e.getMessage());
+        }
+    }
 
-        return ApiResponse.success(articles.stream()
-                .map(this::toResponse)
+    @GetMapping("/trending")
+    public ApiResponse<List<ArticleSummaryResponse>> getTrending(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Integer size) {
+        return ApiResponse.success(articleService.findTrending(categoryId, size).stream()
+                .map(this::toSummaryResponse)
                 .toList());
     }
 
     @GetMapping("/search")
-    public ApiResponse<Page<ArticleResponse>> search(
+    public ApiResponse<Page<ArticleSummaryResponse>> search(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) Long categoryId,
             Pageable pageable) {
-        Page<Article> articles = articleService.search(keyword, categoryId, pageable);
-        return ApiResponse.success(articles.map(article -> {
-            String categoryName = categoryService.findById(article.getCategoryId())
-                    .map(Category::getName)
-                    .orElse("未知分类");
-            return ArticleResponse.from(article, categoryName);
-        }));
+        Page<ArticleSummary> articles = articleService.search(keyword, categoryId, pageable);
+        return ApiResponse.success(articles.map(this::toSummaryResponse));
     }
 
     @GetMapping("/{id}")
-    public ApiResponse<ArticleResponse> getById(@PathVariable Long id) {
-        return articleService.findById(id)
-                .filter(article -> article.getStatus().name().equals("PUBLISHED"))
-                .map(article -> ApiResponse.success(toResponse(article)))
+    public ApiResponse<ArticleResponse> getById(@PathVariable Long id, ServletWebRequest request) {
+        Optional<LocalDateTime> updatedAt = articleService.findPublishedLastModified(id);
+        if (updatedAt.isPresent()) {
+            long lastModified = toEpochMilli(updatedAt.get());
+            if (ConditionalGet.notModified(request, ConditionalGet.etag("a", id, lastModified), lastModified)) {
+                return null;
+            }
+        }
+        // 阅读数只在详情接口、且真正返回正文时计一次；304 重新验证与 HTML 正文请求不计
+        return articleService.findPublishedById(id)
+                .map(article -> {
+                    articleService.recordView(id);
+                    return ApiResponse.success(toResponse(article));
+                })
+                .orElse(ApiResponse.error(404, "文章不存在或未发布"));
+    }
+
+    @GetMapping("/{id}/views")
+    public ApiResponse<ViewCountResponse> getViewCount(@PathVariable Long id) {
+        return articleService.findViewCount(id)
+                .map(count -> ApiResponse.success(new ViewCountResponse(id, count)))
                 .orElse(ApiResponse.error(404, "文章不存在或未发布"));
     }
 
+    /**
+     * 渲染后的 HTML 正文，按 Accept-Encoding 直接输出预压缩字节
+     */
+    @GetMapping(value = "/{id}/html", produces = MediaType.TEXT_HTML_VALUE)
+    public ResponseEntity<byte[]> getHtml(@PathVariable Long id,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                          ServletWebRequest request) {
+        // HTML 正文不含分类名，校验器只取文章自身的修改时间
+        Optional<LocalDateTime> updatedAt = articleService.findPublishedVersion(id).map(ArticleVersion::getUpdatedAt);
+        if (updatedAt.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        ContentCoding coding = ContentCoding.negotiate(acceptEncoding);
+        // 强校验器按表示区分，不同编码的字节不同，ETag 也不同
+        long lastModified = toEpochMilli(updatedAt.get());
+        String etag = ConditionalGet.etag(coding == ContentCoding.IDENTITY ? "h" : "h" + coding.headerValue(), id, lastModified);
+        if (ConditionalGet.notModified(request, etag, lastModified)) {
+            return null;
+        }
+        Optional<Article> article = articleService.findPublishedById(id);
+        if (article.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        byte[] body;
+        if (coding == ContentCoding.IDENTITY) {
+            body = article.get().getRenderedContent().getHtml().getBytes(StandardCharsets.UTF_8);
+        } else {
+            CompressedHtml html = articleService.findPublishedHtmlVariants(id).orElse(null);
+            if (html == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            }
+            body = coding == ContentCoding.GZIP ? html.getGzip() : html.getDeflate();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                .contentLength(body.length)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (coding != ContentCoding.IDENTITY) {
+            response.header(HttpHeaders.CONTENT_ENCODING, coding.headerValue());
+        }
+        return response.body(body);
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
     private ArticleResponse toResponse(Article article) {
-        String categoryName = categoryService.findById(article.getCategoryId())
-                .map(Category::getName)
-                .orElse("未知分类");
-        return ArticleResponse.from(article, categoryName);
+        return ArticleResponse.from(article,
+                categoryNameDirectory.nameOf(article.getCategoryId(), UNKNOWN_CATEGORY));
+    }
+
+    private ArticleSummaryResponse toSummaryResponse(ArticleSummary summary) {
+        return ArticleSummaryResponse.from(summary,
+                categoryNameDirectory.nameOf(summary.getCategoryId(), UNKNOWN_CATEGORY));
     }
 }
@@ -1,11 +1,13 @@
 package com.example.cms.presentation.controller.publicapi;
 
 import com.example.cms.application.service.CategoryService;
+import com.example.cms.application.service.CategoryTreeCache;
 import com.example.cms.presentation.dto.ApiResponse;
 import com.example.cms.presentation.dto.CategoryResponse;
 import com.example.cms.presentation.dto.CategoryTreeResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 
@@ -15,9 +17,14 @@ import java.util.List;
 public class PublicCategoryController {
 
     private final CategoryService categoryService;
+    private final CategoryTreeCache categoryTreeCache;
 
     @GetMapping
-    public ApiResponse<List<CategoryResponse>> getAll() {
+    public ApiResponse<List<CategoryResponse>> getAll(ServletWebRequest request) {
+        CategoryTreeCache.Snapshot snapshot = categoryTreeCache.current();
+        if (ConditionalGet.notModified(request, snapshot.etag(), snapshot.getLastModified())) {
+            return null;
+        }
         List<CategoryResponse> responses = categoryService.findAll().stream()
                 .map(CategoryResponse::from)
                 .toList();
@@ -25,7 +32,20 @@ public class PublicCategoryController {
     }
 
     @GetMapping("/tree")
-    public ApiResponse<CategoryTreeResponse> getTree() {
-        return ApiResponse.success(categoryService.getTree());
+    public ApiResponse<CategoryTreeResponse> getTree(ServletWebRequest request) {
+        // ETag 与树取自同一快照，两者始终对应
+        CategoryTreeCache.Snapshot snapshot = categoryTreeCache.current();
+        if (ConditionalGet.notModified(request, snapshot.etag(), snapshot.getLastModified())) {
+            return null;
+        }
+        return ApiResponse.success(snapshot.getTree());
+    }
+
+    @GetMapping("/{id}/path")
+    public ApiResponse<List<CategoryResponse>> getPath(@PathVariable Long id) {
+        List<CategoryResponse> path = categoryService.getPath(id).stream()
+                .map(CategoryResponse::from)
+                .toList();
+        return path.isEmpty() ? ApiResponse.error(404, "分类不存在") : ApiResponse.success(path);
     }
 }
@@ -0,0 +1,38 @@
+package com.example.cms.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleExportResponse {
+    private Long id;
+    private String title;
+    private String content;
+    private String status;
+    private Long categoryId;
+    private String keywords;
+    private Long viewCount;
+    private LocalDateTime publishedAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static ArticleExportResponse from(com.example.cms.domain.model.article.Article article) {
+        return new ArticleExportResponse(
+                article.getId(),
+                article.getTitle(),
+                article.getContent(),
+                article.getStatus().name(),
+                article.getCategoryId(),
+                article.getKeywords(),
+                article.getViewCount(),
+                article.getPublishedAt(),
+                article.getAudit().getCreatedAt(),
+                article.getAudit().getUpdatedAt()
+        );
+    }
+}
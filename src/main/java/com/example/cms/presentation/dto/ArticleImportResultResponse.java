@@ -0,0 +1,22 @@
+package com.example.cms.presentation.dto;
+
+import com.example.cms.application.service.ArticleImportService;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 导入结果中的一行：成功时带文章 ID，失败时带原因
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleImportResultResponse {
+    private long line;
+    private Long id;
+    private String error;
+
+    public static ArticleImportResultResponse from(ArticleImportService.LineResult result) {
+        return new ArticleImportResultResponse(result.getLine(), result.getArticleId(), result.getError());
+    }
+}
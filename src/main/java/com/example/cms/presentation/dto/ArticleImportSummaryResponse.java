@@ -0,0 +1,26 @@
+package com.example.cms.presentation.dto;
+
+import com.example.cms.application.service.ArticleImportService;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 导入结果流的最后一行
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleImportSummaryResponse {
+    private long total;
+    private long imported;
+    private long failed;
+    private long elapsedMillis;
+    private double articlesPerSecond;
+
+    public static ArticleImportSummaryResponse from(ArticleImportService.Summary summary) {
+        double perSecond = summary.getElapsedMillis() == 0 ? 0 : summary.getImported() * 1000.0 / summary.getElapsedMillis();
+        return new ArticleImportSummaryResponse(summary.getTotal(), summary.getImported(), summary.getFailed(),
+                summary.getElapsedMillis(), perSecond);
+    }
+}
@@ -16,6 +16,7 @@ public class ArticleResponse {
     private String content;
     private String renderedContent;
     private String status;
+    private String renderStatus;
     private Long categoryId;
     private String categoryName;
     private LocalDateTime publishedAt;
@@ -30,6 +31,7 @@ public class ArticleResponse {
                 article.getContent(),
                 article.getRenderedContent().getHtml(),
                 article.getStatus().name(),
+                article.getRenderStatus().name(),
                 article.getCategoryId(),
                 categoryName,
                 article.getPublishedAt(),
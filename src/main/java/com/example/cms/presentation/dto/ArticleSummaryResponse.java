@@ -0,0 +1,41 @@
+package com.example.cms.presentation.dto;
+
+import com.example.cms.domain.model.article.ArticleSummary;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleSummaryResponse {
+    private Long id;
+    private String title;
+    private String status;
+    private Long categoryId;
+    private String categoryName;
+    private LocalDateTime publishedAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private String keywords;
+    private String excerpt;
+    private int wordCount;
+
+    public static ArticleSummaryResponse from(ArticleSummary summary, String categoryName) {
+        return new ArticleSummaryResponse(
+                summary.getId(),
+                summary.getTitle(),
+                summary.getStatus().name(),
+                summary.getCategoryId(),
+                categoryName,
+                summary.getPublishedAt(),
+                summary.getAudit().getCreatedAt(),
+                summary.getAudit().getUpdatedAt(),
+                summary.getKeywords(),
+                summary.getDigest().getExcerpt(),
+                summary.getDigest().getWordCount()
+        );
+    }
+}
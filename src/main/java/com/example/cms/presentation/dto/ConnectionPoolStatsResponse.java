@@ -0,0 +1,39 @@
+package com.example.cms.presentation.dto;
+
+import com.example.cms.infrastructure.persistence.ConnectionPoolMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConnectionPoolStatsResponse {
+    private int active;
+    private int idle;
+    private int total;
+    private int pendingThreads;
+    private int maxPoolSize;
+    private long borrowed;
+    private long timeouts;
+    private double acquireAvgMillis;
+    private double acquireMaxMillis;
+    private double holdAvgMillis;
+    private double holdMaxMillis;
+
+    public static ConnectionPoolStatsResponse from(ConnectionPoolMetrics.Stats stats) {
+        return new ConnectionPoolStatsResponse(
+                stats.getActive(),
+                stats.getIdle(),
+                stats.getTotal(),
+                stats.getPendingThreads(),
+                stats.getMaxPoolSize(),
+                stats.getBorrowed(),
+                stats.getTimeouts(),
+                stats.getAcquireAvgMillis(),
+                stats.getAcquireMaxMillis(),
+                stats.getHoldAvgMillis(),
+                stats.getHoldMaxMillis()
+        );
+    }
+}
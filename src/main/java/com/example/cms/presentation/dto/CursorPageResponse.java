@@ -0,0 +1,26 @@
+package com.example.cms.presentation.dto;
+
+import com.example.cms.domain.model.article.FeedPage;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasMore;
+
+    public static <S, T> CursorPageResponse<T> from(FeedPage<S> page, Function<S, T> mapper) {
+        return new CursorPageResponse<>(
+                page.getItems().stream().map(mapper).toList(),
+                page.hasMore() ? page.getNextCursor().encode() : null,
+                page.hasMore()
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.cms.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 导出文件中的一行：type 为 category / sortOrder / article
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportRecordResponse {
+    private String type;
+    private Object data;
+}
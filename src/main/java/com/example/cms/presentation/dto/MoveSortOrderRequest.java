@@ -0,0 +1,22 @@
+package com.example.cms.presentation.dto;
+
+import com.example.cms.domain.model.sortorder.ResourceType;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 把一项移到同级的另一项之后或之前，相邻项与被移动项类型相同；两者都给出时放在二者之间
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MoveSortOrderRequest {
+    @NotNull(message = "资源类型不能为空")
+    private ResourceType resourceType;
+    @NotNull(message = "资源ID不能为空")
+    private Long resourceId;
+    private Long afterResourceId;
+    private Long beforeResourceId;
+}
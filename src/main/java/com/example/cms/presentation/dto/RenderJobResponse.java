@@ -0,0 +1,53 @@
+package com.example.cms.presentation.dto;
+
+import com.example.cms.domain.model.article.RenderJob;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RenderJobResponse {
+    private Long id;
+    private String status;
+    private long total;
+    private long processed;
+    private long updated;
+    private long unchanged;
+    private long stale;
+    private long failed;
+    private long lastArticleId;
+    private double percent;
+    private double articlesPerSecond;
+    private long elapsedMillis;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+
+    public static RenderJobResponse from(RenderJob job) {
+        // total 是开始时的文章数，期间新增的文章也会被处理，进度封顶为 100
+        double percent = job.getTotal() == 0 ? 100 : Math.min(100, job.getProcessed() * 100.0 / job.getTotal());
+        return new RenderJobResponse(
+                job.getId(),
+                job.getStatus().name(),
+                job.getTotal(),
+                job.getProcessed(),
+                job.getUpdated(),
+                job.getUnchanged(),
+                job.getStale(),
+                job.getFailed(),
+                job.getLastArticleId(),
+                percent,
+                job.throughput(),
+                job.getElapsedMillis(),
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getUpdatedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
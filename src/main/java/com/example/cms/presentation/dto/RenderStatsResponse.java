@@ -0,0 +1,45 @@
+package com.example.cms.presentation.dto;
+
+import com.example.cms.application.service.ArticleRenderPipeline;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RenderStatsResponse {
+    private boolean asyncEnabled;
+    private int threads;
+    private int active;
+    private int queueDepth;
+    private int queueCapacity;
+    private long submitted;
+    private long completed;
+    private long failed;
+    private long stale;
+    private long rejected;
+    private double waitAvgMillis;
+    private double waitMaxMillis;
+    private double renderAvgMillis;
+    private double renderMaxMillis;
+
+    public static RenderStatsResponse from(ArticleRenderPipeline.Stats stats) {
+        return new RenderStatsResponse(
+                stats.isEnabled(),
+                stats.getThreads(),
+                stats.getActive(),
+                stats.getQueueDepth(),
+                stats.getQueueCapacity(),
+                stats.getSubmitted(),
+                stats.getCompleted(),
+                stats.getFailed(),
+                stats.getStale(),
+                stats.getRejected(),
+                stats.getWaitAvgMillis(),
+                stats.getWaitMaxMillis(),
+                stats.getRenderAvgMillis(),
+                stats.getRenderMaxMillis()
+        );
+    }
+}
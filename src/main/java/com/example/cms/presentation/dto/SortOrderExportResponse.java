@@ -0,0 +1,28 @@
+package com.example.cms.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SortOrderExportResponse {
+    private Long id;
+    private String resourceType;
+    private Long resourceId;
+    private String parentType;
+    private Long parentId;
+    private String sortRank;
+
+    public static SortOrderExportResponse from(com.example.cms.domain.model.sortorder.SortOrder sortOrder) {
+        return new SortOrderExportResponse(
+                sortOrder.getId(),
+                sortOrder.getResourceType().name(),
+                sortOrder.getResourceId(),
+                sortOrder.getParentType() == null ? null : sortOrder.getParentType().name(),
+                sortOrder.getParentId(),
+                sortOrder.getSortRank()
+        );
+    }
+}
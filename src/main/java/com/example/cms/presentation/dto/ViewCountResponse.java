@@ -0,0 +1,13 @@
+package com.example.cms.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ViewCountResponse {
+    private Long articleId;
+    private long viewCount;
+}
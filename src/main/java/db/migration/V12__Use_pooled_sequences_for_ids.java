@@ -0,0 +1,39 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 主键改为序列 + pooled 优化器：每次取序列值预留 50 个 ID，Hibernate 才能把多行 INSERT 合并成 JDBC 批量
+ * 序列值 hi 代表 (hi - 50, hi] 这一段，因此从现有最大 ID + 50 开始；去掉自增，避免两套主键来源冲突
+ * 起始值先查出再以字面量写入 CREATE SEQUENCE，不依赖 RESTART WITH 子查询这类方言语法
+ */
+public class V12__Use_pooled_sequences_for_ids extends BaseJavaMigration {
+
+    private static final int ALLOCATION_SIZE = 50;
+    private static final List<String> TABLES = List.of("categories", "articles", "sort_orders", "users");
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        try (Statement statement = context.getConnection().createStatement()) {
+            for (String table : TABLES) {
+                long start = maxId(statement, table) + ALLOCATION_SIZE;
+                statement.execute("CREATE SEQUENCE " + table + "_seq START WITH " + start
+                        + " INCREMENT BY " + ALLOCATION_SIZE);
+                statement.execute("ALTER TABLE " + table + " ALTER COLUMN id DROP IDENTITY");
+            }
+        }
+    }
+
+    private static long maxId(Statement statement, String table) throws SQLException {
+        try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
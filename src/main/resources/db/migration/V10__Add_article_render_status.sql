@@ -0,0 +1,6 @@
+-- 异步渲染：PENDING 的文章由渲染线程池写入 rendered_content
+-- render_revision 在每次修改正文时递增，渲染结果按版本写回，旧内容的渲染结果不会覆盖新内容
+ALTER TABLE articles ADD COLUMN render_status VARCHAR(20) NOT NULL DEFAULT 'RENDERED';
+ALTER TABLE articles ADD COLUMN render_revision BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_articles_render_status ON articles(render_status);
@@ -0,0 +1,13 @@
+-- 正文与渲染结果移到 1:1 的 article_bodies，articles 只保留元数据，列表、存在性检查和状态变更不再经过 LOB 列
+CREATE TABLE article_bodies (
+    article_id BIGINT PRIMARY KEY,
+    content CLOB NOT NULL,
+    rendered_content CLOB NOT NULL,
+    CONSTRAINT fk_article_bodies_article FOREIGN KEY (article_id) REFERENCES articles(id) ON DELETE CASCADE
+);
+
+INSERT INTO article_bodies (article_id, content, rendered_content)
+SELECT id, content, rendered_content FROM articles;
+
+ALTER TABLE articles DROP COLUMN content;
+ALTER TABLE articles DROP COLUMN rendered_content;
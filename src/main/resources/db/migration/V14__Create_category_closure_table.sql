@@ -0,0 +1,25 @@
+-- 分类闭包表：每对 (祖先, 后代) 一行，含自身（depth = 0）
+-- 环检测、全部后代、祖先路径都变成一次索引查询；分类删除时由外键级联清理
+CREATE TABLE category_closure (
+    ancestor_id BIGINT NOT NULL,
+    descendant_id BIGINT NOT NULL,
+    depth INT NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id),
+    CONSTRAINT fk_closure_ancestor FOREIGN KEY (ancestor_id) REFERENCES categories(id) ON DELETE CASCADE,
+    CONSTRAINT fk_closure_descendant FOREIGN KEY (descendant_id) REFERENCES categories(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_closure_descendant ON category_closure(descendant_id, depth);
+
+-- 由现有 sort_orders 层级回填，只包含仍存在的分类；深度上限防止脏数据成环时无限递归
+INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+WITH RECURSIVE tree(ancestor_id, descendant_id, depth) AS (
+    SELECT c.id, c.id, 0 FROM categories c
+    UNION ALL
+    SELECT t.ancestor_id, s.resource_id, t.depth + 1
+    FROM tree t
+    JOIN sort_orders s ON s.resource_type = 'CATEGORY' AND s.parent_type = 'CATEGORY' AND s.parent_id = t.descendant_id
+    JOIN categories c ON c.id = s.resource_id
+    WHERE t.depth < 64
+)
+SELECT ancestor_id, descendant_id, MIN(depth) FROM tree GROUP BY ancestor_id, descendant_id;
@@ -0,0 +1,18 @@
+-- 同级排序键：0-9a-z 组成的变长字符串，按字典序排列；插入或移动到两项之间只需写入一行
+-- sort_order 保留为对外展示的序号，排列顺序以 sort_rank 为准
+ALTER TABLE sort_orders ADD COLUMN sort_rank VARCHAR(64);
+
+COMMENT ON COLUMN sort_orders.sort_rank IS '同级排序键，按字典序排列';
+
+-- 按原有 (sort_order, id) 顺序回填等宽键，保持现有排列不变
+MERGE INTO sort_orders t
+USING (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY parent_type, parent_id ORDER BY sort_order, id) AS rn
+    FROM sort_orders
+) r ON t.id = r.id
+WHEN MATCHED THEN UPDATE SET sort_rank = LPAD(CAST(r.rn AS VARCHAR), 6, '0') || 'i';
+
+ALTER TABLE sort_orders ALTER COLUMN sort_rank SET NOT NULL;
+
+DROP INDEX idx_parent;
+CREATE INDEX idx_parent_rank ON sort_orders(parent_type, parent_id, sort_rank);
@@ -0,0 +1,3 @@
+-- 已发布文章流按 (published_at, id) 键集分页，索引覆盖过滤条件与排序键
+CREATE INDEX idx_articles_status_published ON articles(status, published_at DESC, id DESC);
+CREATE INDEX idx_articles_category_status_published ON articles(category_id, status, published_at DESC, id DESC);
@@ -0,0 +1,3 @@
+-- 列表摘要字段，保存时由渲染结果计算，列表查询无需读取 CLOB
+ALTER TABLE articles ADD COLUMN excerpt VARCHAR(300);
+ALTER TABLE articles ADD COLUMN word_count INT DEFAULT 0;
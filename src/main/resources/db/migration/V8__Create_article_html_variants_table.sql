@@ -0,0 +1,8 @@
+-- 渲染结果的预压缩副本，保存时生成一次，前台按 Accept-Encoding 直接输出
+CREATE TABLE article_html_variants (
+    article_id BIGINT PRIMARY KEY,
+    gzip_html BLOB NOT NULL,
+    deflate_html BLOB NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_html_variants_article FOREIGN KEY (article_id) REFERENCES articles(id) ON DELETE CASCADE
+);
@@ -0,0 +1,2 @@
+-- 阅读数由内存计数器定期批量累加，JPA 不写入该列
+ALTER TABLE articles ADD COLUMN view_count BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,172 @@
+package com.example.cms.application.service;
+
+import com.example.cms.domain.model.article.Article;
+import com.example.cms.domain.model.article.ArticleStatus;
+import com.example.cms.domain.repository.CategoryRepository;
+import com.example.cms.domain.service.MarkdownRenderer;
+import com.example.cms.infrastructure.cache.CategoryNameDirectory;
+import com.example.cms.infrastructure.cache.PublishedArticleCache;
+import com.example.cms.infrastructure.persistence.entity.ArticleEntity;
+import com.example.cms.infrastructure.persistence.repository.ArticleRepositoryImpl;
+import com.example.cms.infrastructure.persistence.repository.SpringDataArticleRepository;
+import com.example.cms.infrastructure.search.ArticleSearchIndex;
+import com.example.cms.infrastructure.stats.ArticleViewCounter;
+import com.example.cms.infrastructure.stats.TrendingArticles;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * 发布、取消发布、改分类只执行一条 UPDATE，不先 SELECT 实体再写回；
+ * 批量 UPDATE 后清空持久化上下文，同一事务内随后的读取拿到新值
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.cms.application.service.ArticleStateUpdateSqlTest$RecordingInspector")
+@Import({ArticleService.class, ArticleRepositoryImpl.class})
+class ArticleStateUpdateSqlTest {
+
+    private static final long CATEGORY_ID = 9001L;
+    private static final long OTHER_CATEGORY_ID = 9002L;
+    private static final long ARTICLE_ID = 9101L;
+
+    @Autowired
+    private ArticleService articleService;
+    @Autowired
+    private SpringDataArticleRepository springDataRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private CategoryRepository categoryRepository;
+    @MockBean
+    private MarkdownRenderer markdownRenderer;
+    @MockBean
+    private ArticleRenderPipeline renderPipeline;
+    @MockBean
+    private SortOrderService sortOrderService;
+    @MockBean
+    private PublishedArticleCache publishedArticleCache;
+    @MockBean
+    private ArticleViewCounter articleViewCounter;
+    @MockBean
+    private TrendingArticles trendingArticles;
+    @MockBean
+    private CategoryNameDirectory categoryNameDirectory;
+    @MockBean
+    private ArticleSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO categories (id, name) VALUES (?, ?), (?, ?)",
+                CATEGORY_ID, "sql-test-1", OTHER_CATEGORY_ID, "sql-test-2");
+        jdbcTemplate.update("INSERT INTO articles (id, title, status, category_id, render_status) "
+                + "VALUES (?, 'sql-test', ?, ?, 'RENDERED')", ARTICLE_ID, ArticleStatus.DRAFT.name(), CATEGORY_ID);
+        jdbcTemplate.update("INSERT INTO article_bodies (article_id, content, rendered_content) VALUES (?, 'x', '<p>x</p>')",
+                ARTICLE_ID);
+        RecordingInspector.reset();
+    }
+
+    @Test
+    void publishIssuesSingleUpdateBeforeReadingBack() {
+        Article article = articleService.publish(ARTICLE_ID);
+
+        assertThat(article.getStatus()).isEqualTo(ArticleStatus.PUBLISHED);
+        List<String> statements = RecordingInspector.articleStatements();
+        assertThat(statements.get(0)).startsWith("update");
+        assertThat(statements).filteredOn(sql -> sql.startsWith("update")).hasSize(1);
+    }
+
+    @Test
+    void unpublishIssuesSingleUpdateBeforeReadingBack() {
+        jdbcTemplate.update("UPDATE articles SET status = 'PUBLISHED', published_at = ? WHERE id = ?",
+                LocalDateTime.now(), ARTICLE_ID);
+
+        Article article = articleService.unpublish(ARTICLE_ID);
+
+        assertThat(article.getStatus()).isEqualTo(ArticleStatus.DRAFT);
+        List<String> statements = RecordingInspector.articleStatements();
+        assertThat(statements.get(0)).startsWith("update");
+        assertThat(statements).filteredOn(sql -> sql.startsWith("update")).hasSize(1);
+    }
+
+    @Test
+    void changeCategoryIssuesSingleUpdate() {
+        when(categoryRepository.existsByCategoryId(any())).thenReturn(true);
+
+        articleService.changeCategory(ARTICLE_ID, OTHER_CATEGORY_ID);
+
+        assertThat(RecordingInspector.articleStatements()).singleElement()
+                .satisfies(sql -> assertThat(sql).startsWith("update"));
+    }
+
+    @Test
+    void repositoryUpdatesIssueOneStatementEach() {
+        assertThat(springDataRepository.markPublished(ARTICLE_ID, LocalDateTime.now())).isEqualTo(1);
+        assertThat(springDataRepository.markUnpublished(ARTICLE_ID, LocalDateTime.now())).isEqualTo(1);
+        assertThat(springDataRepository.updateCategory(ARTICLE_ID, OTHER_CATEGORY_ID, LocalDateTime.now())).isEqualTo(1);
+
+        assertThat(RecordingInspector.articleStatements()).hasSize(3).allMatch(sql -> sql.startsWith("update"));
+    }
+
+    @Test
+    void bulkUpdatesClearStaleEntities() {
+        ArticleEntity loaded = springDataRepository.findById(ARTICLE_ID).orElseThrow();
+        assertThat(loaded.getStatus()).isEqualTo(ArticleStatus.DRAFT.name());
+
+        springDataRepository.markPublished(ARTICLE_ID, LocalDateTime.now());
+        assertThat(springDataRepository.findById(ARTICLE_ID).orElseThrow().getStatus())
+                .isEqualTo(ArticleStatus.PUBLISHED.name());
+
+        springDataRepository.updateCategory(ARTICLE_ID, OTHER_CATEGORY_ID, LocalDateTime.now());
+        assertThat(springDataRepository.findById(ARTICLE_ID).orElseThrow().getCategoryId())
+                .isEqualTo(OTHER_CATEGORY_ID);
+
+        springDataRepository.markUnpublished(ARTICLE_ID, LocalDateTime.now());
+        assertThat(springDataRepository.findById(ARTICLE_ID).orElseThrow().getStatus())
+                .isEqualTo(ArticleStatus.DRAFT.name());
+    }
+
+    /**
+     * 记录 Hibernate 发出的 SQL，按表名过滤出访问 articles 的语句
+     */
+    public static class RecordingInspector implements StatementInspector {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        static void reset() {
+            STATEMENTS.clear();
+        }
+
+        static List<String> articleStatements() {
+            synchronized (STATEMENTS) {
+                return STATEMENTS.stream()
+                        .map(sql -> sql.trim().toLowerCase(Locale.ROOT))
+                        .filter(sql -> sql.matches("(?s).*\\barticles\\b.*"))
+                        .toList();
+            }
+        }
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.cms.application.service;
+
+import com.example.cms.domain.model.sortorder.ResourceType;
+import com.example.cms.domain.model.sortorder.SortOrder;
+import com.example.cms.domain.repository.CategoryClosureRepository;
+import com.example.cms.infrastructure.persistence.repository.SortOrderRepositoryImpl;
+import com.example.cms.presentation.dto.MoveSortOrderRequest;
+import com.example.cms.presentation.dto.OrderItem;
+import com.example.cms.presentation.dto.ReorderRequest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 同级排列只以 sort_rank 为准：按排序键移动后，序号不再参与新记录定位与部分重排；重排只改写移动项的排序键
+ */
+@DataJpaTest
+@Import({SortOrderServiceImpl.class, SortOrderRepositoryImpl.class})
+class SortOrderServiceImplTest {
+
+    private static final long CATEGORY_ID = 9001L;
+
+    @Autowired
+    private SortOrderServiceImpl sortOrderService;
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private CategoryClosureRepository categoryClosureRepository;
+
+    @BeforeEach
+    void setUp() {
+        for (long id = 1; id <= 5; id++) {
+            sortOrderService.initializeArticleSortOrder(id, CATEGORY_ID, (int) id - 1);
+        }
+    }
+
+    @Test
+    void newItemsArePlacedByPositionInRankOrder() {
+        sortOrderService.initializeArticleSortOrder(6L, CATEGORY_ID, 2);
+        sortOrderService.initializeArticleSortOrder(7L, CATEGORY_ID, 0);
+        sortOrderService.initializeArticleSortOrder(8L, CATEGORY_ID, 100);
+
+        assertThat(order()).containsExactly(7L, 1L, 2L, 6L, 3L, 4L, 5L, 8L);
+    }
+
+    @Test
+    void newItemsFollowEarlierMoves() {
+        move(5L, 1L, null);
+        assertThat(order()).containsExactly(1L, 5L, 2L, 3L, 4L);
+
+        sortOrderService.initializeArticleSortOrder(6L, CATEGORY_ID, 2);
+
+        assertThat(order()).containsExactly(1L, 5L, 6L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void partialReorderKeepsEarlierMoves() {
+        move(5L, 1L, null);
+        move(1L, null, 4L);
+        assertThat(order()).containsExactly(5L, 2L, 3L, 1L, 4L);
+
+        reorder(item(4L, 0), item(3L, 1));
+
+        // 3 不动，4 紧挨着放到 3 之前，未列出的项保持原位
+        assertThat(order()).containsExactly(5L, 2L, 4L, 3L, 1L);
+    }
+
+    @Test
+    void reorderRewritesOnlyMovedItems() {
+        Map<Long, String> before = ranks();
+
+        reorder(item(1L, 0), item(2L, 1), item(4L, 2), item(3L, 3), item(5L, 4));
+
+        assertThat(order()).containsExactly(1L, 2L, 4L, 3L, 5L);
+        Map<Long, String> after = ranks();
+        assertThat(after.keySet()).filteredOn(id -> !after.get(id).equals(before.get(id))).containsExactly(4L);
+    }
+
+    @Test
+    void fullReorderFollowsRequestedPositions() {
+        move(5L, 1L, null);
+
+        reorder(item(3L, 0), item(1L, 1), item(4L, 2), item(5L, 3), item(2L, 4));
+
+        assertThat(order()).containsExactly(3L, 1L, 4L, 5L, 2L);
+    }
+
+    @Test
+    void reorderRejectsUnknownItems() {
+        assertThatThrownBy(() -> reorder(item(1L, 0), item(42L, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Map<Long, String> ranks() {
+        entityManager.flush();
+        entityManager.clear();
+        return sortOrderService.getChildrenByParent(ResourceType.CATEGORY, CATEGORY_ID).stream()
+                .collect(Collectors.toMap(SortOrder::getResourceId, SortOrder::getSortRank));
+    }
+
+    private List<Long> order() {
+        entityManager.flush();
+        entityManager.clear();
+        return sortOrderService.getChildrenByParent(ResourceType.CATEGORY, CATEGORY_ID).stream()
+                .map(SortOrder::getResourceId)
+                .toList();
+    }
+
+    private void move(Long resourceId, Long afterResourceId, Long beforeResourceId) {
+        sortOrderService.move(new MoveSortOrderRequest(ResourceType.ARTICLE, resourceId, afterResourceId, beforeResourceId));
+        // 生产环境每次移动各自一个事务，这里清空持久化上下文模拟之后的请求
+        entityManager.clear();
+    }
+
+    private void reorder(OrderItem... items) {
+        sortOrderService.reorder(new ReorderRequest(ResourceType.CATEGORY, CATEGORY_ID, List.of(items)));
+    }
+
+    private static OrderItem item(Long resourceId, int position) {
+        return new OrderItem(ResourceType.ARTICLE, resourceId, position);
+    }
+}
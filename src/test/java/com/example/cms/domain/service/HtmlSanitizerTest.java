@@ -0,0 +1,50 @@
+package com.example.cms.domain.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HtmlSanitizerTest {
+
+    private final MarkdownRenderer renderer = new MarkdownRenderer(1 << 20, 1 << 20);
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "&#106avascript:alert(1)",
+            "&#x6Aavascript:alert(1)",
+            "&#0000000000106;avascript:alert(1)",
+            "&#106;avascript:alert(1)",
+            "java&#x09;script:alert(1)",
+            "javascript&colon;alert(1)",
+            "&#99999999999999999999;javascript:alert(1)",
+            "&unknown;javascript:alert(1)"
+    })
+    void rejectsEncodedScriptUrls(String url) {
+        assertThat(HtmlSanitizer.isSafeUrl(url)).isFalse();
+
+        String html = renderer.renderUncached("<a href=\"" + url + "\">x</a>\n").getHtml();
+        assertThat(html).doesNotContain("href");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "https://example.com/?a=1&b=2",
+            "/articles/1?x=1&y=2",
+            "#top",
+            "images/a.png",
+            "mailto:someone@example.com",
+            "&#104;ttps://example.com"
+    })
+    void keepsSafeUrls(String url) {
+        assertThat(HtmlSanitizer.isSafeUrl(url)).isTrue();
+    }
+
+    @Test
+    void rejectsEncodedScriptUrlInMarkdownLink() {
+        String html = renderer.renderUncached("[x](&#106avascript:alert(1))\n").getHtml();
+
+        assertThat(html).doesNotContain("href");
+    }
+}
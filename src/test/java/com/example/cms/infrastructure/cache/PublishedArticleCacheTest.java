@@ -0,0 +1,56 @@
+package com.example.cms.infrastructure.cache;
+
+import com.example.cms.application.event.ArticleChangedEvent;
+import com.example.cms.domain.model.article.Article;
+import com.example.cms.domain.model.article.ArticleDigest;
+import com.example.cms.domain.model.article.ArticleStatus;
+import com.example.cms.domain.model.article.ArticleSummary;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublishedArticleCacheTest {
+
+    private final PublishedArticleCache cache = new PublishedArticleCache(1 << 20, 1 << 20, 1 << 20, Duration.ofMinutes(1));
+
+    @Test
+    void callersCannotMutateCachedArticle() {
+        Article loaded = Article.builder().id(1L).title("t").content("c").categoryId(10L)
+                .status(ArticleStatus.PUBLISHED).build();
+
+        Article first = cache.getPublished(1L, id -> Optional.of(loaded)).orElseThrow();
+        first.changeCategory(20L);
+        loaded.changeCategory(30L);
+
+        assertThat(cache.getPublished(1L, id -> Optional.empty()).orElseThrow().getCategoryId()).isEqualTo(10L);
+        assertThat(cache.peekPublished(1L).orElseThrow().getCategoryId()).isEqualTo(10L);
+    }
+
+    @Test
+    void feedLoadedAcrossInvalidationIsDiscarded() {
+        AtomicInteger loads = new AtomicInteger();
+
+        List<ArticleSummary> feed = cache.getFeed(null, () -> {
+            if (loads.incrementAndGet() == 1) {
+                // 加载期间有文章变更提交，这次读到的是变更前的数据
+                cache.onArticleChanged(ArticleChangedEvent.of(1L, ArticleChangedEvent.ChangeType.PUBLISHED));
+                return List.of(summary("stale"));
+            }
+            return List.of(summary("fresh"));
+        });
+
+        assertThat(feed).extracting(ArticleSummary::getTitle).containsExactly("fresh");
+        assertThat(cache.getFeed(null, () -> List.of(summary("reloaded"))))
+                .extracting(ArticleSummary::getTitle).containsExactly("fresh");
+        assertThat(loads).hasValue(2);
+    }
+
+    private static ArticleSummary summary(String title) {
+        return ArticleSummary.builder().id(1L).title(title).digest(ArticleDigest.empty()).build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.cms.infrastructure.persistence.repository;
+
+import com.example.cms.application.service.CategoryService;
+import com.example.cms.application.service.CategoryTreeCache;
+import com.example.cms.application.service.SortOrderService;
+import com.example.cms.domain.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 闭包表维护：新增节点、移动子树、删除子树，以及移动到自身子树下的环检测
+ * 测试树：ROOT → CHILD → GRANDCHILD，ROOT → SIBLING，OTHER_ROOT 为另一个根
+ */
+@DataJpaTest
+@Import({CategoryClosureRepositoryImpl.class, CategoryRepositoryImpl.class, CategoryService.class})
+class CategoryClosureRepositoryImplTest {
+
+    private static final long ROOT = 9001L;
+    private static final long CHILD = 9002L;
+    private static final long GRANDCHILD = 9003L;
+    private static final long SIBLING = 9004L;
+    private static final long OTHER_ROOT = 9005L;
+
+    @Autowired
+    private CategoryClosureRepositoryImpl closureRepository;
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private ArticleRepository articleRepository;
+    @MockBean
+    private SortOrderService sortOrderService;
+    @MockBean
+    private CategoryTreeCache categoryTreeCache;
+
+    @BeforeEach
+    void setUp() {
+        for (long id = ROOT; id <= OTHER_ROOT; id++) {
+            jdbcTemplate.update("INSERT INTO categories (id, name) VALUES (?, ?)", id, "closure-" + id);
+        }
+        closureRepository.insertNode(ROOT, null);
+        closureRepository.insertNode(CHILD, ROOT);
+        closureRepository.insertNode(GRANDCHILD, CHILD);
+        closureRepository.insertNode(SIBLING, ROOT);
+        closureRepository.insertNode(OTHER_ROOT, null);
+    }
+
+    @Test
+    void insertNodeAddsSelfAndEveryAncestor() {
+        assertThat(rows()).containsExactlyInAnyOrder(
+                row(ROOT, ROOT, 0), row(ROOT, CHILD, 1), row(ROOT, GRANDCHILD, 2), row(ROOT, SIBLING, 1),
+                row(CHILD, CHILD, 0), row(CHILD, GRANDCHILD, 1),
+                row(GRANDCHILD, GRANDCHILD, 0),
+                row(SIBLING, SIBLING, 0),
+                row(OTHER_ROOT, OTHER_ROOT, 0));
+        assertThat(closureRepository.findAncestorIds(GRANDCHILD)).containsExactly(ROOT, CHILD, GRANDCHILD);
+        assertThat(closureRepository.findDescendantIds(ROOT)).containsExactly(ROOT, CHILD, SIBLING, GRANDCHILD);
+    }
+
+    @Test
+    void moveSubtreeRewritesOuterAncestorsOnly() {
+        closureRepository.moveSubtree(CHILD, OTHER_ROOT);
+
+        assertThat(closureRepository.findAncestorIds(GRANDCHILD)).containsExactly(OTHER_ROOT, CHILD, GRANDCHILD);
+        assertThat(closureRepository.findDescendantIds(ROOT)).containsExactly(ROOT, SIBLING);
+        assertThat(closureRepository.findDescendantIds(OTHER_ROOT)).containsExactly(OTHER_ROOT, CHILD, GRANDCHILD);
+        assertThat(rows()).contains(row(CHILD, GRANDCHILD, 1), row(OTHER_ROOT, GRANDCHILD, 2))
+                .doesNotContain(row(ROOT, CHILD, 1), row(ROOT, GRANDCHILD, 2));
+    }
+
+    @Test
+    void moveSubtreeToRootKeepsInnerRows() {
+        closureRepository.moveSubtree(CHILD, null);
+
+        assertThat(closureRepository.findAncestorIds(GRANDCHILD)).containsExactly(CHILD, GRANDCHILD);
+        assertThat(closureRepository.findDescendantIds(CHILD)).containsExactly(CHILD, GRANDCHILD);
+        assertThat(closureRepository.isInSubtree(ROOT, GRANDCHILD)).isFalse();
+    }
+
+    @Test
+    void deleteNodeRemovesRowsOnBothSides() {
+        closureRepository.deleteNode(GRANDCHILD);
+
+        assertThat(closureRepository.findDescendantIds(ROOT)).containsExactly(ROOT, CHILD, SIBLING);
+        assertThat(closureRepository.findAncestorIds(GRANDCHILD)).isEmpty();
+    }
+
+    @Test
+    void deletingSubtreeCategoriesCascadesClosureRows() {
+        List<Long> subtree = closureRepository.findDescendantIds(CHILD);
+        jdbcTemplate.update("DELETE FROM categories WHERE id IN (?, ?)", subtree.get(0), subtree.get(1));
+
+        assertThat(closureRepository.findDescendantIds(ROOT)).containsExactly(ROOT, SIBLING);
+        assertThat(rows()).noneMatch(row -> subtree.contains(row[0]) || subtree.contains(row[1]));
+    }
+
+    @Test
+    void moveIntoOwnSubtreeIsRejected() {
+        assertThatThrownBy(() -> categoryService.moveToCategory(ROOT, GRANDCHILD))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> categoryService.moveToCategory(CHILD, CHILD))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(closureRepository.findAncestorIds(GRANDCHILD)).containsExactly(ROOT, CHILD, GRANDCHILD);
+    }
+
+    private List<long[]> rows() {
+        return jdbcTemplate.query("SELECT ancestor_id, descendant_id, depth FROM category_closure WHERE ancestor_id >= ?",
+                (rs, i) -> row(rs.getLong(1), rs.getLong(2), rs.getInt(3)), ROOT);
+    }
+
+    private static long[] row(long ancestorId, long descendantId, int depth) {
+        return new long[]{ancestorId, descendantId, depth};
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.cms.infrastructure.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenizerTest {
+
+    @Test
+    void indexesCjkRunsAsUnigramsAndBigrams() {
+        assertThat(Tokenizer.tokenize("数据库")).containsExactly("数", "数据", "据", "据库", "库");
+    }
+
+    @Test
+    void queriesMultiCharacterCjkRunsByBigramsOnly() {
+        assertThat(Tokenizer.tokenizeQuery("数据库")).containsExactly("数据", "据库");
+        assertThat(Tokenizer.tokenizeQuery("库")).containsExactly("库");
+    }
+
+    @Test
+    void splitsLatinRunsAndLowercases() {
+        assertThat(Tokenizer.tokenize("Spring Boot3 与H2")).containsExactly("spring", "boot3", "与", "h2");
+    }
+
+    @Test
+    void singleCharacterQueryMatchesInsideLongerRun() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, 10L, "关系型数据库入门", null, "正文");
+        index.put(2L, 10L, "缓存设计", null, "正文");
+
+        InvertedIndex.SearchHits hits = index.search("库", null, 0, 10);
+
+        assertThat(hits.total).isEqualTo(1);
+        assertThat(hits.articleIds).containsExactly(1L);
+        assertThat(index.search("数据库", null, 0, 10).articleIds).containsExactly(1L);
+    }
+}
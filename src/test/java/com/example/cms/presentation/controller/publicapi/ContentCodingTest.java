@@ -0,0 +1,23 @@
+package com.example.cms.presentation.controller.publicapi;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentCodingTest {
+
+    @Test
+    void repeatedCodingUsesHighestQualityRegardlessOfOrder() {
+        assertThat(ContentCoding.negotiate("gzip;q=0.5, deflate;q=0.9, deflate;q=0.1")).isEqualTo(ContentCoding.DEFLATE);
+        assertThat(ContentCoding.negotiate("gzip;q=0.5, deflate;q=0.1, deflate;q=0.9")).isEqualTo(ContentCoding.DEFLATE);
+        assertThat(ContentCoding.negotiate("deflate;q=0.9, gzip;q=0.1, gzip;q=0.9")).isEqualTo(ContentCoding.GZIP);
+    }
+
+    @Test
+    void wildcardAppliesOnlyToUnlistedCodings() {
+        assertThat(ContentCoding.negotiate("gzip;q=0, *;q=0.5")).isEqualTo(ContentCoding.DEFLATE);
+        assertThat(ContentCoding.negotiate("*;q=0")).isEqualTo(ContentCoding.IDENTITY);
+        assertThat(ContentCoding.negotiate("identity")).isEqualTo(ContentCoding.IDENTITY);
+        assertThat(ContentCoding.negotiate(null)).isEqualTo(ContentCoding.IDENTITY);
+    }
+}